@@ -21,12 +21,17 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+import seedu.address.model.person.timesheet.TimesheetBook;
+import seedu.address.model.person.timesheet.TimesheetRepository;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryTimesheetStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TimesheetStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -58,7 +63,9 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        TimesheetStorage timesheetStorage = new BinaryTimesheetStorage(userPrefs.getAddressBookFilePath()
+                .resolveSibling(StorageManager.DEFAULT_TIMESHEET_FILE_NAME));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, timesheetStorage);
 
         model = initModelManager(storage, userPrefs);
 
@@ -68,9 +75,11 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and timesheets,
+     * and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * No availability is recorded if {@code storage}'s timesheets are not found or cannot be read.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -90,7 +99,25 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs, storage);
+        return new ModelManager(initialData, userPrefs, storage, new TimesheetBook(initTimesheets(storage)));
+    }
+
+    /**
+     * Returns a {@code TimesheetRepository} over the archive in {@code storage}'s timesheet file, or an empty one
+     * if the file is not found or cannot be read. Weeks are decoded from the archive only when they are used.
+     */
+    private TimesheetRepository initTimesheets(Storage storage) {
+        logger.info("Using timesheet file : " + storage.getTimesheetFilePath());
+
+        TimesheetArchive archive;
+        try {
+            archive = storage.readTimesheets().orElseGet(TimesheetArchive::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Timesheet file at " + storage.getTimesheetFilePath() + " could not be loaded."
+                    + " Will be starting with no recorded availability.");
+            archive = new TimesheetArchive();
+        }
+        return new TimesheetRepository(TimesheetRepository.DEFAULT_CAPACITY, archive);
     }
 
     private void initLogging(Config config) {
@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps keys to one canonical value each, so that equal values built from equal keys can share a single instance.
+ * Values are only weakly held: once nothing else refers to a value, it can be garbage collected
+ * and its entry is dropped the next time the interner is used.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the canonical values.
+ */
+public class WeakInterner<K, V> {
+
+    private final Map<K, KeyedReference<K, V>> values = new HashMap<>();
+    private final ReferenceQueue<V> collected = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical value for {@code key}, creating it with {@code factory} if there is none.
+     * If {@code factory} throws, nothing is added.
+     */
+    public synchronized V intern(K key, Function<? super K, ? extends V> factory) {
+        requireAllNonNull(key, factory);
+        expungeCollected();
+        KeyedReference<K, V> reference = values.get(key);
+        V value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            values.put(key, new KeyedReference<>(key, value, collected));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of keys that currently have a canonical value, including any not yet found collected.
+     */
+    public synchronized int size() {
+        expungeCollected();
+        return values.size();
+    }
+
+    private void expungeCollected() {
+        KeyedReference<?, ?> reference;
+        while ((reference = (KeyedReference<?, ?>) collected.poll()) != null) {
+            // The key may already hold a newer value.
+            values.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a canonical value that remembers its key, so that its entry can be found once collected.
+     */
+    private static class KeyedReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        KeyedReference(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -52,6 +52,11 @@ public class LogicManager implements Logic {
 
         try {
             storage.saveAddressBook(model.getAddressBook());
+            // availability changes rarely, so its file is only rewritten after a command changes it
+            if (model.hasUnsavedTimesheets()) {
+                storage.saveTimesheets(model.getTimesheetArchive());
+                model.markTimesheetsSaved();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Records when a person identified using their displayed index is available, or unavailable, in their timesheet.
+ */
+public class AvailabilityCommand extends Command {
+
+    public static final String COMMAND_WORD_AVAILABLE = "available";
+    public static final String COMMAND_WORD_UNAVAILABLE = "unavailable";
+
+    public static final String MESSAGE_USAGE_AVAILABLE = COMMAND_WORD_AVAILABLE
+            + ": Records that the person identified by the index number used in the displayed person list "
+            + "is available at the given times.\n"
+            + "In a week with no availability recorded, the person is then treated as unavailable at the other "
+            + "times of that week.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_TIMESLOT + "YYYY-MM-DD HHMM-HHMM [" + PREFIX_TIMESLOT + "YYYY-MM-DD HHMM-HHMM]...\n"
+            + "Example: " + COMMAND_WORD_AVAILABLE + " 1 "
+            + PREFIX_TIMESLOT + "2025-10-14 1600-1800 " + PREFIX_TIMESLOT + "2025-10-16 1600-1800";
+
+    public static final String MESSAGE_USAGE_UNAVAILABLE = COMMAND_WORD_UNAVAILABLE
+            + ": Records that the person identified by the index number used in the displayed person list "
+            + "is unavailable at the given times. In a week with no availability recorded, the person stays "
+            + "available at every other time.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_TIMESLOT + "YYYY-MM-DD HHMM-HHMM [" + PREFIX_TIMESLOT + "YYYY-MM-DD HHMM-HHMM]...\n"
+            + "Example: " + COMMAND_WORD_UNAVAILABLE + " 1 " + PREFIX_TIMESLOT + "2025-10-14 1700-1800";
+
+    public static final String MESSAGE_SUCCESS = "Marked %1$s as %2$s at:\n%3$s";
+
+    private final Index targetIndex;
+    private final List<TimeSlot> timeSlots;
+    private final boolean isAvailable;
+
+    /**
+     * Creates an AvailabilityCommand marking the person at {@code targetIndex} as available at {@code timeSlots}
+     * if {@code isAvailable}, or as unavailable otherwise.
+     */
+    public AvailabilityCommand(Index targetIndex, List<TimeSlot> timeSlots, boolean isAvailable) {
+        requireAllNonNull(targetIndex, timeSlots);
+        this.targetIndex = targetIndex;
+        this.timeSlots = List.copyOf(timeSlots);
+        this.isAvailable = isAvailable;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person person = lastShownList.get(targetIndex.getZeroBased());
+        for (TimeSlot timeSlot : timeSlots) {
+            // a timeslot lies within one day, so always within one week
+            LocalDateTime start = LocalDateTime.of(timeSlot.getDate(), timeSlot.getStartTime());
+            LocalDateTime end = LocalDateTime.of(timeSlot.getDate(), timeSlot.getEndTime());
+            if (isAvailable) {
+                model.markAvailable(person.getId(), start, end);
+            } else {
+                model.markUnavailable(person.getId(), start, end);
+            }
+        }
+        String slotList = timeSlots.stream().map(TimeSlot::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, person.getName(),
+                isAvailable ? COMMAND_WORD_AVAILABLE : COMMAND_WORD_UNAVAILABLE, slotList));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AvailabilityCommand)) {
+            return false;
+        }
+
+        AvailabilityCommand otherCommand = (AvailabilityCommand) other;
+        return targetIndex.equals(otherCommand.targetIndex)
+                && timeSlots.equals(otherCommand.timeSlots)
+                && isAvailable == otherCommand.isAvailable;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("timeSlots", timeSlots)
+                .add("isAvailable", isAvailable)
+                .toString();
+    }
+}
@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.MutableModelTx;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.exceptions.TimeSlotConflictException;
@@ -42,40 +43,36 @@ public class ClearPastCommand extends Command {
         requireNonNull(model);
         LocalDateTime now = LocalDateTime.now();
 
-        // We must use a copy of the list to avoid ConcurrentModificationException
-        List<Person> fullList = new ArrayList<>(model.getAddressBook().getPersonList());
-
         List<Person> personsToDelete = new ArrayList<>();
         List<PersonToUpdate> personsToUpdate = new ArrayList<>();
 
         // 1. Find and categorize all contacts to delete or update
-        categorizePastContacts(fullList, now, personsToDelete, personsToUpdate);
-
-        // 2. Perform deletions and get names
-        List<String> deletedNames = performDeletions(model, personsToDelete);
+        categorizePastContacts(model.getPersonsEndedBefore(now), now, personsToDelete, personsToUpdate);
 
-        // 3. Perform updates and get names/conflicts
+        // 2. Stage deletions, then updates, and apply them together
+        List<String> deletedNames = new ArrayList<>();
         List<String> updatedNames = new ArrayList<>();
         List<String> conflictNames = new ArrayList<>();
-        performUpdates(model, personsToUpdate, updatedNames, conflictNames);
+        model.batch(tx -> {
+            deletedNames.addAll(performDeletions(tx, personsToDelete));
+            performUpdates(tx, personsToUpdate, updatedNames, conflictNames);
+        });
 
-        // 4. Build and return the result message
+        // 3. Build and return the result message
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return buildCommandResult(deletedNames, updatedNames, conflictNames);
     }
 
     /**
-     * Iterates through the full list and populates the to-delete and to-update lists.
+     * Iterates through the past contacts and populates the to-delete and to-update lists.
      */
-    private void categorizePastContacts(List<Person> fullList, LocalDateTime now,
+    private void categorizePastContacts(List<Person> pastList, LocalDateTime now,
                                         List<Person> personsToDelete, List<PersonToUpdate> personsToUpdate) {
-        for (Person person : fullList) {
-            if (person.getTimeSlot() != null && person.getTimeSlot().isPast(now)) {
-                if (isRecurring(person)) {
-                    personsToUpdate.add(new PersonToUpdate(person, person.getTimeSlot().getNextOccurrence(now)));
-                } else {
-                    personsToDelete.add(person);
-                }
+        for (Person person : pastList) {
+            if (isRecurring(person)) {
+                personsToUpdate.add(new PersonToUpdate(person, person.getTimeSlot().getNextOccurrence(now)));
+            } else {
+                personsToDelete.add(person);
             }
         }
     }
@@ -90,31 +87,31 @@ public class ClearPastCommand extends Command {
     }
 
     /**
-     * Deletes all persons in the list from the model and returns their names.
+     * Stages the deletion of all persons in the list and returns their names.
      */
-    private List<String> performDeletions(Model model, List<Person> personsToDelete) {
+    private List<String> performDeletions(MutableModelTx tx, List<Person> personsToDelete) {
         List<String> deletedNames = new ArrayList<>();
         for (Person person : personsToDelete) {
-            model.deletePerson(person);
+            tx.deletePerson(person);
             deletedNames.add(person.getName().toString());
         }
         return deletedNames;
     }
 
     /**
-     * Updates all persons in the list in the model.
+     * Stages the updates of all persons in the list.
      * Populates updatedNames and conflictNames lists based on the outcome.
      */
-    private void performUpdates(Model model, List<PersonToUpdate> personsToUpdate,
+    private void performUpdates(MutableModelTx tx, List<PersonToUpdate> personsToUpdate,
                                 List<String> updatedNames, List<String> conflictNames) {
         for (PersonToUpdate ptu : personsToUpdate) {
-            Person updatedPerson = new Person(
+            Person updatedPerson = new Person(ptu.oldPerson.getId(),
                     ptu.oldPerson.getName(), ptu.oldPerson.getPhone(), ptu.oldPerson.getEmail(),
                     ptu.oldPerson.getAddress(), ptu.newTimeSlot, ptu.oldPerson.getTags()
             );
 
             try {
-                model.setPerson(ptu.oldPerson, updatedPerson);
+                tx.setPerson(ptu.oldPerson, updatedPerson);
                 updatedNames.add(updatedPerson.getName().toString());
             } catch (TimeSlotConflictException e) {
                 String originalMessage = e.getMessage();
@@ -172,7 +172,8 @@ public class EditCommand extends Command {
         TimeSlot updatedTimeSlot = editPersonDescriptor.getTimeSlot().orElse(personToEdit.getTimeSlot());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTimeSlot, updatedTags);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedTimeSlot, updatedTags);
     }
 
     @Override
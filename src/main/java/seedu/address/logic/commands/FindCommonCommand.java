@@ -0,0 +1,145 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.timesheet.AvailabilityFinder;
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.FreeWindow;
+import seedu.address.model.person.timesheet.PersonTimesheet;
+import seedu.address.model.person.timesheet.WeekIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Finds the times in a week when every chosen student is available and no lesson is booked.
+ */
+public class FindCommonCommand extends Command {
+
+    public static final String COMMAND_WORD = "findcommon";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the free times in a week that suit every chosen student and clash with no booked lesson.\n"
+            + "Students are chosen by their index in the displayed person list and/or by tag. "
+            + "Availability is recorded with the " + AvailabilityCommand.COMMAND_WORD_AVAILABLE + " command; "
+            + "students with none recorded for the week are treated as free at all times.\n"
+            + "Parameters: [INDEX]... [" + PREFIX_TAG + "TAG]... "
+            + PREFIX_WEEK + "DATE_IN_WEEK (YYYY-MM-DD) "
+            + PREFIX_DURATION + "MINUTES\n"
+            + "Example: " + COMMAND_WORD + " 1 3 " + PREFIX_TAG + "Sec3Math "
+            + PREFIX_WEEK + "2025-10-13 " + PREFIX_DURATION + "90";
+
+    public static final String MESSAGE_SUCCESS = "Common free times for %1$d student(s) in the %2$s, "
+            + "lasting at least %3$d minutes:\n%4$s";
+    public static final String MESSAGE_NO_COMMON_TIME = "No common free time of at least %3$d minutes "
+            + "for %1$d student(s) in the %2$s.";
+    public static final String MESSAGE_NO_STUDENTS = "No students match the given indexes and tags.";
+
+    private final List<Index> indexes;
+    private final Set<Tag> tags;
+    private final WeekIndex week;
+    private final int minMinutes;
+
+    /**
+     * Creates a FindCommonCommand for the students at {@code indexes} and those with any of {@code tags},
+     * looking for windows of at least {@code minMinutes} in {@code week}.
+     */
+    public FindCommonCommand(List<Index> indexes, Set<Tag> tags, WeekIndex week, int minMinutes) {
+        requireAllNonNull(indexes, tags, week);
+        this.indexes = List.copyOf(indexes);
+        this.tags = Set.copyOf(tags);
+        this.week = week;
+        this.minMinutes = minMinutes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> students = getStudents(model);
+        if (students.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS);
+        }
+
+        List<AvailabilityMask> availabilities = new ArrayList<>();
+        for (Person student : students) {
+            model.getTimesheet(student.getId(), week).map(PersonTimesheet::getMask).ifPresent(availabilities::add);
+        }
+        AvailabilityMask booked = AvailabilityFinder.bookedMask(week,
+                model.getPersonsBetween(week.getWeekStartMonday(), week.getWeekStartMonday().plusDays(6)).stream()
+                        .map(Person::getTimeSlot)
+                        .collect(Collectors.toList()));
+
+        List<FreeWindow> windows = AvailabilityFinder.findCommonFreeWindows(week, availabilities, booked,
+                minMinutes);
+        String format = windows.isEmpty() ? MESSAGE_NO_COMMON_TIME : MESSAGE_SUCCESS;
+        String windowList = windows.stream().map(FreeWindow::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(format, students.size(), week, minMinutes, windowList));
+    }
+
+    /**
+     * Returns the students at the given indexes followed by those with any of the given tags, each once.
+     */
+    private List<Person> getStudents(Model model) throws CommandException {
+        Map<PersonId, Person> students = new LinkedHashMap<>();
+        List<Person> lastShownList = model.getFilteredPersonList();
+        for (Index index : indexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            Person student = lastShownList.get(index.getZeroBased());
+            students.putIfAbsent(student.getId(), student);
+        }
+        if (!tags.isEmpty()) {
+            for (Person person : model.getAddressBook().getPersonList()) {
+                if (person.getTags().stream().anyMatch(tags::contains)) {
+                    students.putIfAbsent(person.getId(), person);
+                }
+            }
+        }
+        return new ArrayList<>(students.values());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindCommonCommand)) {
+            return false;
+        }
+
+        FindCommonCommand otherCommand = (FindCommonCommand) other;
+        return indexes.equals(otherCommand.indexes)
+                && tags.equals(otherCommand.tags)
+                && week.equals(otherCommand.week)
+                && minMinutes == otherCommand.minMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("indexes", indexes)
+                .add("tags", tags)
+                .add("week", week)
+                .add("minMinutes", minMinutes)
+                .toString();
+    }
+}
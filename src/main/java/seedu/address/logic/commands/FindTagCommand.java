@@ -10,7 +10,8 @@ import seedu.address.model.Model;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose tags match any of the argument keywords.
+ * Finds and lists all persons in address book whose tags match any of the argument keywords,
+ * all of the required keywords and none of the excluded keywords.
  * Keyword matching is case insensitive.
  */
 public class FindTagCommand extends Command {
@@ -19,8 +20,9 @@ public class FindTagCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags "
             + "match any of the specified keywords (case-insensitive).\n"
+            + "Prefix a keyword with + to require it, or with - to exclude it.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " recurring Math";
+            + "Example: " + COMMAND_WORD + " recurring Math +Sec3 -paid";
 
     private final TagContainsKeywordsPredicate predicate;
 
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.FreeSlotQuery;
+import seedu.address.model.Model;
+import seedu.address.model.person.timesheet.FreeWindow;
+
+/**
+ * Finds the first free windows of a given length between booked lessons.
+ */
+public class FreeSlotCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeslot";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the first free times of at least the given length that clash with no lesson, "
+            + "optionally only within daily working hours.\n"
+            + "Parameters: "
+            + PREFIX_DURATION + "MINUTES "
+            + PREFIX_START_DATE + "START_DATE (YYYY-MM-DD) "
+            + PREFIX_END_DATE + "END_DATE (YYYY-MM-DD) "
+            + "[" + PREFIX_START_TIME + "DAY_START (HHMM)] "
+            + "[" + PREFIX_END_TIME + "DAY_END (HHMM)] "
+            + "[" + PREFIX_COUNT + "COUNT (default " + DEFAULT_COUNT + ")]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DURATION + "90 "
+            + PREFIX_START_DATE + "2025-10-13 " + PREFIX_END_DATE + "2025-10-17 "
+            + PREFIX_START_TIME + "0900 " + PREFIX_END_TIME + "1800 " + PREFIX_COUNT + "3";
+
+    public static final String MESSAGE_SUCCESS = "First %1$d free slot(s) of at least %2$d minutes:\n%3$s";
+    public static final String MESSAGE_NO_FREE_SLOT = "No free slot of at least %1$d minutes from %2$s to %3$s.";
+
+    private final FreeSlotQuery query;
+
+    /**
+     * Creates a FreeSlotCommand to search for free windows matching {@code query}.
+     */
+    public FreeSlotCommand(FreeSlotQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<FreeWindow> windows = model.findFreeSlots(query);
+        if (windows.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOT, query.getMinMinutes(),
+                    query.getStartDate(), query.getEndDate()));
+        }
+        String windowList = windows.stream().map(FreeWindow::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, windows.size(), query.getMinMinutes(), windowList));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotCommand)) {
+            return false;
+        }
+
+        FreeSlotCommand otherCommand = (FreeSlotCommand) other;
+        return query.equals(otherCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.timesheet.AvailabilityFinder;
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.LessonPlacement;
+import seedu.address.model.person.timesheet.LessonPlacementSolver;
+import seedu.address.model.person.timesheet.PersonTimesheet;
+import seedu.address.model.person.timesheet.WeekIndex;
+
+/**
+ * Suggests the best weekly lesson times for a student over a term, from their availability and the lessons
+ * already booked.
+ */
+public class SuggestCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggest";
+
+    public static final int DEFAULT_COUNT = 3;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Suggests the best weekly lesson times for the student identified by the index number used in "
+            + "the displayed person list, over every week from the start date to the end date. "
+            + "Times that suit the student in more weeks, sit next to other lessons and fall within the "
+            + "preferred hours rank higher. "
+            + "Availability is recorded with the " + AvailabilityCommand.COMMAND_WORD_AVAILABLE + " command; "
+            + "weeks with none recorded for the student treat them as free at all times.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_DURATION + "MINUTES "
+            + PREFIX_START_DATE + "START_DATE (YYYY-MM-DD) "
+            + PREFIX_END_DATE + "END_DATE (YYYY-MM-DD) "
+            + "[" + PREFIX_START_TIME + "PREFERRED_START (HHMM)] "
+            + "[" + PREFIX_END_TIME + "PREFERRED_END (HHMM)] "
+            + "[" + PREFIX_COUNT + "COUNT (default " + DEFAULT_COUNT + ")]\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_DURATION + "90 "
+            + PREFIX_START_DATE + "2025-10-13 " + PREFIX_END_DATE + "2025-12-19 "
+            + PREFIX_START_TIME + "1400 " + PREFIX_END_TIME + "1900";
+
+    public static final String MESSAGE_SUCCESS = "Suggested weekly lesson times of %1$d minutes for %2$s "
+            + "over %3$d week(s):\n%4$s";
+    public static final String MESSAGE_NO_SUGGESTION = "No weekly lesson time of %1$d minutes suits %2$s "
+            + "in any of the %3$d week(s).";
+
+    private final Index index;
+    private final int minutes;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Optional<LocalTime> preferredStart;
+    private final Optional<LocalTime> preferredEnd;
+    private final int count;
+
+    /**
+     * Creates a SuggestCommand for the student at {@code index}, placing a lesson of {@code minutes} in every
+     * week from {@code startDate} to {@code endDate}, preferably from {@code preferredStart} to
+     * {@code preferredEnd}, and listing the best {@code count} times.
+     */
+    public SuggestCommand(Index index, int minutes, LocalDate startDate, LocalDate endDate,
+                          Optional<LocalTime> preferredStart, Optional<LocalTime> preferredEnd, int count) {
+        requireAllNonNull(index, startDate, endDate, preferredStart, preferredEnd);
+        this.index = index;
+        this.minutes = minutes;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.preferredStart = preferredStart;
+        this.preferredEnd = preferredEnd;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        Person student = lastShownList.get(index.getZeroBased());
+
+        LessonPlacementSolver solver = new LessonPlacementSolver(minutes, preferredStart, preferredEnd);
+        AvailabilityMask alwaysAvailable = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        alwaysAvailable.setRange(0, WeekIndex.BINS_PER_WEEK, true);
+        for (LocalDate monday = new WeekIndex(startDate).getWeekStartMonday(); !monday.isAfter(endDate);
+                monday = monday.plusDays(7)) {
+            WeekIndex week = new WeekIndex(monday);
+            AvailabilityMask available = model.getTimesheet(student.getId(), week)
+                    .map(PersonTimesheet::getMask)
+                    .orElse(alwaysAvailable);
+            // the student's own lesson is the one being placed, so it does not count as booked
+            AvailabilityMask booked = AvailabilityFinder.bookedMask(week,
+                    model.getPersonsBetween(monday, monday.plusDays(6)).stream()
+                            .filter(person -> !person.getId().equals(student.getId()))
+                            .map(Person::getTimeSlot)
+                            .collect(Collectors.toList()));
+            solver.addWeek(available, booked);
+        }
+
+        List<LessonPlacement> placements = solver.findBest(count);
+        if (placements.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SUGGESTION, minutes, student.getName(),
+                    solver.getWeekCount()));
+        }
+        String placementList = placements.stream().map(LessonPlacement::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, minutes, student.getName(), solver.getWeekCount(),
+                placementList));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SuggestCommand)) {
+            return false;
+        }
+
+        SuggestCommand otherCommand = (SuggestCommand) other;
+        return index.equals(otherCommand.index)
+                && minutes == otherCommand.minutes
+                && startDate.equals(otherCommand.startDate)
+                && endDate.equals(otherCommand.endDate)
+                && preferredStart.equals(otherCommand.preferredStart)
+                && preferredEnd.equals(otherCommand.preferredEnd)
+                && count == otherCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("minutes", minutes)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("preferredStart", preferredStart)
+                .add("preferredEnd", preferredEnd)
+                .add("count", count)
+                .toString();
+    }
+}
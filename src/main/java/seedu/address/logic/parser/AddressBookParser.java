@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AvailabilityCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearPastCommand;
 import seedu.address.logic.commands.Command;
@@ -17,10 +18,13 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterTimeslotCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindCommonCommand;
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.commands.FindTimeslotCommand;
+import seedu.address.logic.commands.FreeSlotCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SuggestCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -84,6 +88,21 @@ public class AddressBookParser {
         case FilterTimeslotCommand.COMMAND_WORD:
             return new FilterTimeslotCommandParser().parse(arguments);
 
+        case FindCommonCommand.COMMAND_WORD:
+            return new FindCommonCommandParser().parse(arguments);
+
+        case FreeSlotCommand.COMMAND_WORD:
+            return new FreeSlotCommandParser().parse(arguments);
+
+        case SuggestCommand.COMMAND_WORD:
+            return new SuggestCommandParser().parse(arguments);
+
+        case AvailabilityCommand.COMMAND_WORD_AVAILABLE:
+            return new AvailabilityCommandParser(true).parse(arguments);
+
+        case AvailabilityCommand.COMMAND_WORD_UNAVAILABLE:
+            return new AvailabilityCommandParser(false).parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommandParser().parse(arguments);
 
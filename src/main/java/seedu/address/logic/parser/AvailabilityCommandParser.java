@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AvailabilityCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Parses input arguments and creates a new AvailabilityCommand object
+ */
+public class AvailabilityCommandParser implements Parser<AvailabilityCommand> {
+
+    private final boolean isAvailable;
+
+    /**
+     * Creates a parser for the command that marks times as available if {@code isAvailable},
+     * or as unavailable otherwise.
+     */
+    public AvailabilityCommandParser(boolean isAvailable) {
+        this.isAvailable = isAvailable;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AvailabilityCommand
+     * and returns an AvailabilityCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AvailabilityCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TIMESLOT);
+        String usage = isAvailable
+                ? AvailabilityCommand.MESSAGE_USAGE_AVAILABLE
+                : AvailabilityCommand.MESSAGE_USAGE_UNAVAILABLE;
+
+        if (argMultimap.getAllValues(PREFIX_TIMESLOT).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage), pe);
+        }
+
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        for (String timeSlot : argMultimap.getAllValues(PREFIX_TIMESLOT)) {
+            timeSlots.add(ParserUtil.parseTimeSlot(timeSlot));
+        }
+        return new AvailabilityCommand(index, timeSlots, isAvailable);
+    }
+}
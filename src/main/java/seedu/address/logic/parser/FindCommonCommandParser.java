@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.FindCommonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.timesheet.WeekIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FindCommonCommand object
+ */
+public class FindCommonCommandParser implements Parser<FindCommonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommonCommand
+     * and returns a FindCommonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindCommonCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_WEEK, PREFIX_DURATION);
+
+        if (argMultimap.getValue(PREFIX_WEEK).isEmpty() || argMultimap.getValue(PREFIX_DURATION).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommonCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WEEK, PREFIX_DURATION);
+
+        List<Index> indexes = new ArrayList<>();
+        String preamble = argMultimap.getPreamble().trim();
+        if (!preamble.isEmpty()) {
+            try {
+                for (String index : preamble.split("\\s+")) {
+                    indexes.add(ParserUtil.parseIndex(index));
+                }
+            } catch (ParseException pe) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommonCommand.MESSAGE_USAGE), pe);
+            }
+        }
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        if (indexes.isEmpty() && tags.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommonCommand.MESSAGE_USAGE));
+        }
+
+        WeekIndex week = new WeekIndex(ParserUtil.parseDate(argMultimap.getValue(PREFIX_WEEK).get()));
+        int minMinutes = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        return new FindCommonCommand(indexes, tags, week, minMinutes);
+    }
+}
@@ -27,6 +27,13 @@ public class FindTagCommandParser implements Parser<FindTagCommand> {
         }
 
         String[] tagKeywords = trimmedArgs.split("\\s+");
+        for (String keyword : tagKeywords) {
+            if (keyword.equals(TagContainsKeywordsPredicate.REQUIRED_PREFIX)
+                    || keyword.equals(TagContainsKeywordsPredicate.EXCLUDED_PREFIX)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+            }
+        }
 
         return new FindTagCommand(new TagContainsKeywordsPredicate(Arrays.asList(tagKeywords)));
     }
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.FreeSlotCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FreeSlotQuery;
+
+/**
+ * Parses input arguments and creates a new FreeSlotCommand object
+ */
+public class FreeSlotCommandParser implements Parser<FreeSlotCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotCommand
+     * and returns a FreeSlotCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DURATION, PREFIX_START_DATE,
+                PREFIX_END_DATE, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_COUNT);
+
+        if (!argMultimap.getPreamble().isEmpty()
+                || !Stream.of(PREFIX_DURATION, PREFIX_START_DATE, PREFIX_END_DATE)
+                        .allMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DURATION, PREFIX_START_DATE, PREFIX_END_DATE,
+                PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_COUNT);
+
+        int minMinutes = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_START_DATE).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END_DATE).get());
+        Optional<LocalTime> dayStart = parseOptionalTime(argMultimap.getValue(PREFIX_START_TIME));
+        Optional<LocalTime> dayEnd = parseOptionalTime(argMultimap.getValue(PREFIX_END_TIME));
+        int count = argMultimap.getValue(PREFIX_COUNT).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_COUNT).get())
+                : FreeSlotCommand.DEFAULT_COUNT;
+
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(FreeSlotQuery.MESSAGE_INVALID_DATE_RANGE);
+        }
+        if (dayStart.isPresent() && dayEnd.isPresent() && !dayStart.get().isBefore(dayEnd.get())) {
+            throw new ParseException(FreeSlotQuery.MESSAGE_INVALID_WORKING_HOURS);
+        }
+        return new FreeSlotCommand(new FreeSlotQuery(startDate, endDate, minMinutes, dayStart, dayEnd, count));
+    }
+
+    private static Optional<LocalTime> parseOptionalTime(Optional<String> time) throws ParseException {
+        return time.isPresent() ? Optional.of(ParserUtil.parseTime(time.get())) : Optional.empty();
+    }
+}
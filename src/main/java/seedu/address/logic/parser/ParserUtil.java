@@ -16,6 +16,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonFieldValidator;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
@@ -26,6 +27,11 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final int MAX_DURATION_MINUTES = 7 * 24 * 60;
+    public static final String MESSAGE_INVALID_DURATION =
+            "Duration should be a whole number of minutes from 1 to " + MAX_DURATION_MINUTES + ".";
+    public static final int MAX_COUNT = 100;
+    public static final String MESSAGE_INVALID_COUNT = "Count should be a whole number from 1 to " + MAX_COUNT + ".";
 
     // Formatter for HHmm time
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
@@ -43,6 +49,37 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code duration}, a number of minutes, into an {@code int} and returns it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is not from 1 to {@link #MAX_DURATION_MINUTES}.
+     */
+    public static int parseDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDuration)
+                || Integer.parseInt(trimmedDuration) > MAX_DURATION_MINUTES) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Integer.parseInt(trimmedDuration);
+    }
+
+    /**
+     * Parses {@code count}, a number of results, into an {@code int} and returns it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not from 1 to {@link #MAX_COUNT}.
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount) || Integer.parseInt(trimmedCount) > MAX_COUNT) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -51,11 +88,7 @@ public class ParserUtil {
      */
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
-        String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return PersonFieldValidator.validateName(name.trim()).orElseThrow(ParseException::new);
     }
 
     /**
@@ -66,11 +99,7 @@ public class ParserUtil {
      */
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
-        String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return PersonFieldValidator.validatePhone(phone.trim()).orElseThrow(ParseException::new);
     }
 
     /**
@@ -81,11 +110,7 @@ public class ParserUtil {
      */
     public static Address parseAddress(String address) throws ParseException {
         requireNonNull(address);
-        String trimmedAddress = address.trim();
-        if (!Address.isValidAddress(trimmedAddress)) {
-            throw new ParseException(Address.MESSAGE_CONSTRAINTS);
-        }
-        return new Address(trimmedAddress);
+        return PersonFieldValidator.validateAddress(address.trim()).orElseThrow(ParseException::new);
     }
 
     /**
@@ -96,11 +121,7 @@ public class ParserUtil {
      */
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
-        String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return PersonFieldValidator.validateEmail(email.trim()).orElseThrow(ParseException::new);
     }
 
     /**
@@ -111,11 +132,7 @@ public class ParserUtil {
      */
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
-        String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
-            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(trimmedTag);
+        return PersonFieldValidator.validateTag(tag.trim()).orElseThrow(ParseException::new);
     }
 
     /**
@@ -138,13 +155,7 @@ public class ParserUtil {
      */
     public static TimeSlot parseTimeSlot(String timeSlot) throws ParseException {
         requireNonNull(timeSlot);
-        String trimmedTimeSlot = timeSlot.trim();
-        try {
-            return new TimeSlot(trimmedTimeSlot);
-        } catch (IllegalArgumentException e) {
-            // Pass the specific message from the TimeSlot constructor
-            throw new ParseException(e.getMessage());
-        }
+        return TimeSlot.parse(timeSlot).orElseThrow(ParseException::new);
     }
 
     // --- NEW METHODS ---
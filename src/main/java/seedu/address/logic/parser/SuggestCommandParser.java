@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FreeSlotQuery;
+
+/**
+ * Parses input arguments and creates a new SuggestCommand object
+ */
+public class SuggestCommandParser implements Parser<SuggestCommand> {
+
+    public static final String MESSAGE_INVALID_PREFERRED_HOURS =
+            "Start of preferred hours must be before their end, which must be after 0000.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestCommand
+     * and returns a SuggestCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SuggestCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DURATION, PREFIX_START_DATE,
+                PREFIX_END_DATE, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_COUNT);
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE), pe);
+        }
+        if (!Stream.of(PREFIX_DURATION, PREFIX_START_DATE, PREFIX_END_DATE)
+                .allMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DURATION, PREFIX_START_DATE, PREFIX_END_DATE,
+                PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_COUNT);
+
+        int minutes = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_START_DATE).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END_DATE).get());
+        Optional<LocalTime> preferredStart = parseOptionalTime(argMultimap.getValue(PREFIX_START_TIME));
+        Optional<LocalTime> preferredEnd = parseOptionalTime(argMultimap.getValue(PREFIX_END_TIME));
+        int count = argMultimap.getValue(PREFIX_COUNT).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_COUNT).get())
+                : SuggestCommand.DEFAULT_COUNT;
+
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(FreeSlotQuery.MESSAGE_INVALID_DATE_RANGE);
+        }
+        // an end of 0000 leaves no preferred hours, even without a start
+        if (preferredEnd.filter(LocalTime.MIDNIGHT::equals).isPresent()
+                || (preferredStart.isPresent() && preferredEnd.isPresent()
+                && !preferredStart.get().isBefore(preferredEnd.get()))) {
+            throw new ParseException(MESSAGE_INVALID_PREFERRED_HOURS);
+        }
+        return new SuggestCommand(index, minutes, startDate, endDate, preferredStart, preferredEnd, count);
+    }
+
+    private static Optional<LocalTime> parseOptionalTime(Optional<String> time) throws ParseException {
+        return time.isPresent() ? Optional.of(ParserUtil.parseTime(time.get())) : Optional.empty();
+    }
+}
@@ -2,14 +2,31 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ContactIndex;
+import seedu.address.model.person.DateIndex;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.TimeslotRangePredicate;
+import seedu.address.model.person.TimeslotStartTimeContainsKeywordsPredicate;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.timesheet.FreeWindow;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -18,6 +35,11 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ScheduleIndex schedule;
+    private final DateIndex dateIndex;
+    private final TagIndex tagIndex;
+    private final NameIndex nameIndex;
+    private final ContactIndex contactIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,6 +50,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        schedule = new ScheduleIndex();
+        dateIndex = new DateIndex();
+        tagIndex = new TagIndex();
+        nameIndex = new NameIndex();
+        contactIndex = new ContactIndex();
     }
 
     public AddressBook() {}
@@ -48,6 +75,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        schedule.setAll(this.persons);
+        dateIndex.setAll(this.persons);
+        tagIndex.setAll(this.persons);
+        nameIndex.setAll(this.persons);
+        contactIndex.setAll(this.persons);
     }
 
     /**
@@ -75,6 +107,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        schedule.add(p);
+        dateIndex.add(p);
+        tagIndex.add(p);
+        nameIndex.add(p);
+        contactIndex.add(p);
     }
 
     /**
@@ -86,6 +123,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        schedule.replace(target, editedPerson);
+        dateIndex.replace(target, editedPerson);
+        tagIndex.replace(target, editedPerson);
+        nameIndex.replace(target, editedPerson);
+        contactIndex.replace(target, editedPerson);
     }
 
     /**
@@ -94,6 +136,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        schedule.remove(key);
+        dateIndex.remove(key);
+        tagIndex.remove(key);
+        nameIndex.remove(key);
+        contactIndex.remove(key);
     }
 
     /**
@@ -103,12 +150,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Optional<Person> getConflictingPerson(TimeSlot timeSlot) {
         requireNonNull(timeSlot);
-        for (Person person : persons) {
-            if (person.getTimeSlot() != null && person.getTimeSlot().overlaps(timeSlot)) {
-                return Optional.of(person);
-            }
-        }
-        return Optional.empty();
+        return schedule.findFirstOverlap(timeSlot);
     }
 
     /**
@@ -121,13 +163,111 @@ public class AddressBook implements ReadOnlyAddressBook {
     public Optional<Person> getConflictingPerson(TimeSlot timeSlot, Person personToIgnore) {
         requireNonNull(timeSlot);
         requireNonNull(personToIgnore);
-        for (Person person : persons) {
-            // Ignore the personToIgnore AND check for conflict
-            if (!person.hasSameDetails(personToIgnore)
-                    && person.getTimeSlot() != null
-                    && person.getTimeSlot().overlaps(timeSlot)) {
-                return Optional.of(person);
+        return schedule.findFirstOverlap(timeSlot, personToIgnore::hasSameDetails);
+    }
+
+    /**
+     * Returns every person whose timeslot overlaps the given timeslot, in chronological order.
+     * @param timeSlot The timeslot to check.
+     * @return The conflicting persons, or an empty list if there are none.
+     */
+    public List<Person> getConflictingPersons(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        return schedule.findAllOverlaps(timeSlot);
+    }
+
+    /**
+     * Returns the persons whose timeslots end before {@code time}, in chronological order.
+     * Only the dates up to that of {@code time} are visited, so the cost depends on how many lessons are over
+     * rather than on the size of the address book.
+     */
+    public List<Person> getPersonsEndedBefore(LocalDateTime time) {
+        requireNonNull(time);
+        LocalDate date = time.toLocalDate();
+        LocalTime timeOfDay = time.toLocalTime();
+        List<Person> ended = new ArrayList<>();
+        dateIndex.getDays(Optional.empty(), Optional.of(date)).forEach((day, starts) -> {
+            for (List<Person> persons : starts.values()) {
+                for (Person person : persons) {
+                    if (day.isBefore(date) || person.getTimeSlot().getEndTime().isBefore(timeOfDay)) {
+                        ended.add(person);
+                    }
+                }
             }
+        });
+        return ended;
+    }
+
+    /**
+     * Returns the persons whose timeslots fall on dates from {@code from} to {@code to} inclusive,
+     * in chronological order. Only those dates are visited.
+     */
+    public List<Person> getPersonsBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Person> persons = new ArrayList<>();
+        dateIndex.getDays(Optional.of(from), Optional.of(to)).values()
+                .forEach(starts -> starts.values().forEach(persons::addAll));
+        return persons;
+    }
+
+    /**
+     * Returns the first free windows between lessons that match {@code query}, in time order.
+     * Only the lessons up to the last window found are visited.
+     */
+    public List<FreeWindow> findFreeSlots(FreeSlotQuery query) {
+        requireNonNull(query);
+        return query.findIn(schedule);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if it is in the address book.
+     */
+    public Optional<Person> findById(PersonId id) {
+        requireNonNull(id);
+        return persons.findById(id);
+    }
+
+    /**
+     * Returns the persons with the given phone number.
+     */
+    public List<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return contactIndex.findByPhone(phone);
+    }
+
+    /**
+     * Returns the persons with the given email, ignoring case.
+     */
+    public List<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return contactIndex.findByEmail(email);
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the list.
+     */
+    public int positionOf(Person person) {
+        return persons.positionOf(person);
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} if the predicate can be answered from this address book's
+     * indexes, or an empty Optional if every person would have to be tested against it.
+     */
+    public Optional<List<Person>> findMatches(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof TimeslotRangePredicate) {
+            return Optional.of(((TimeslotRangePredicate) predicate).findMatches(dateIndex));
+        }
+        if (predicate instanceof TimeslotStartTimeContainsKeywordsPredicate) {
+            return Optional.of(((TimeslotStartTimeContainsKeywordsPredicate) predicate).findMatches(dateIndex));
+        }
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return Optional.of(((NameContainsKeywordsPredicate) predicate).findMatches(nameIndex));
+        }
+        if (predicate instanceof TagContainsKeywordsPredicate) {
+            return Optional.of(((TagContainsKeywordsPredicate) predicate).findMatches(tagIndex));
         }
         return Optional.empty();
     }
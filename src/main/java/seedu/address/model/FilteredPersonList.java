@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of an address book that match a predicate, in the order of the address book's person list.
+ * When the address book's indexes can answer the predicate, the list is built from the persons they find,
+ * so filtering takes time in proportion to the matches instead of testing every person.
+ * Later changes to the address book are applied one person at a time, testing only the persons added.
+ */
+class FilteredPersonList {
+
+    private final AddressBook addressBook;
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
+    private Predicate<Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+
+    /**
+     * Creates a list showing every person in {@code addressBook}, kept up to date as it changes.
+     */
+    FilteredPersonList(AddressBook addressBook) {
+        this.addressBook = requireNonNull(addressBook);
+        persons.setAll(addressBook.getPersonList());
+        addressBook.getPersonList().addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the matching persons as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiablePersons;
+    }
+
+    /**
+     * Shows the persons matching {@code predicate}.
+     */
+    void setPredicate(Predicate<Person> predicate) {
+        this.predicate = requireNonNull(predicate);
+        Optional<List<Person>> matches = addressBook.findMatches(predicate);
+        if (matches.isPresent()) {
+            persons.setAll(inListOrder(matches.get()));
+        } else {
+            refilter();
+        }
+    }
+
+    /**
+     * Returns {@code matches}, each once, in the order of the address book's person list.
+     */
+    private List<Person> inListOrder(List<Person> matches) {
+        Map<Person, Integer> positions = new IdentityHashMap<>(matches.size() * 2);
+        matches.forEach(person -> positions.computeIfAbsent(person, addressBook::positionOf));
+        List<Person> ordered = new ArrayList<>(positions.keySet());
+        ordered.sort(Comparator.comparingInt(positions::get));
+        return ordered;
+    }
+
+    /**
+     * Tests every person in the address book against the predicate.
+     */
+    private void refilter() {
+        persons.setAll(addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies a change of the address book's person list.
+     * The address book's indexes may not be updated yet when this is called, so only its list is used.
+     */
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> added = new ArrayList<>();
+        boolean wasPermutated = false;
+        while (change.next()) {
+            wasPermutated |= change.wasPermutated();
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        // inserting many persons one at a time costs more than testing the whole book once
+        if (wasPermutated || added.size() > persons.size()) {
+            refilter();
+            return;
+        }
+        if (!removed.isEmpty()) {
+            persons.removeIf(removed::contains);
+        }
+        for (Person person : added) {
+            if (predicate.test(person)) {
+                persons.add(insertionIndex(addressBook.positionOf(person)), person);
+            }
+        }
+    }
+
+    /**
+     * Returns the index in this list before which a person at {@code position} in the address book goes.
+     */
+    private int insertionIndex(int position) {
+        int low = 0;
+        int high = persons.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (addressBook.positionOf(persons.get(mid)) < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
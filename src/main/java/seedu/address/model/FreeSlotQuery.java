@@ -0,0 +1,161 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.timesheet.FreeWindow;
+
+/**
+ * Describes a search for the first free windows of at least some length between booked lessons,
+ * on the dates from a start date to an end date and optionally only within daily working hours.
+ * Guarantees: immutable; the date range, working hours, duration and limit are valid.
+ */
+public class FreeSlotQuery {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Start date must be before or on end date.";
+    public static final String MESSAGE_INVALID_WORKING_HOURS = "Start of working hours must be before their end.";
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int minMinutes;
+    private final Optional<LocalTime> dayStart;
+    private final Optional<LocalTime> dayEnd;
+    private final int limit;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param startDate The first date to search.
+     * @param endDate The last date to search, inclusive.
+     * @param minMinutes The shortest window to return.
+     * @param dayStart The start of the working hours on each date, if they do not start at midnight.
+     * @param dayEnd The end of the working hours on each date, if they do not end at midnight.
+     * @param limit The most windows to return.
+     */
+    public FreeSlotQuery(LocalDate startDate, LocalDate endDate, int minMinutes, Optional<LocalTime> dayStart,
+                         Optional<LocalTime> dayEnd, int limit) {
+        requireAllNonNull(startDate, endDate, dayStart, dayEnd);
+        checkArgument(!startDate.isAfter(endDate), MESSAGE_INVALID_DATE_RANGE);
+        checkArgument(dayStart.isEmpty() || dayEnd.isEmpty() || dayStart.get().isBefore(dayEnd.get()),
+                MESSAGE_INVALID_WORKING_HOURS);
+        checkArgument(minMinutes > 0, "Duration must be positive: " + minMinutes);
+        checkArgument(limit > 0, "Limit must be positive: " + limit);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minMinutes = minMinutes;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns, in time order, the first windows matching this query that no lesson in {@code schedule} overlaps.
+     * Each window is as long as the gap between lessons allows, clipped to the working hours of its date
+     * if there are any. The sweep stops as soon as enough windows are found.
+     */
+    public List<FreeWindow> findIn(ScheduleIndex schedule) {
+        requireNonNull(schedule);
+        List<FreeWindow> windows = new ArrayList<>();
+        long searchStart = startDate.toEpochDay() * MINUTES_PER_DAY;
+        long searchEnd = (endDate.toEpochDay() + 1) * MINUTES_PER_DAY;
+        if (dayStart.isEmpty() && dayEnd.isEmpty()) {
+            schedule.forEachGap(searchStart, searchEnd, (gapStart, gapEnd) -> addWindow(windows, gapStart, gapEnd));
+            return windows;
+        }
+        int dayStartMinute = dayStart.map(time -> time.toSecondOfDay() / 60).orElse(0);
+        int dayEndMinute = dayEnd.map(time -> time.toSecondOfDay() / 60).orElse(MINUTES_PER_DAY);
+        schedule.forEachGap(searchStart, searchEnd, (gapStart, gapEnd) -> {
+            for (long day = Math.floorDiv(gapStart, MINUTES_PER_DAY);
+                    day * MINUTES_PER_DAY + dayStartMinute < gapEnd; day++) {
+                long windowStart = Math.max(gapStart, day * MINUTES_PER_DAY + dayStartMinute);
+                long windowEnd = Math.min(gapEnd, day * MINUTES_PER_DAY + dayEndMinute);
+                if (!addWindow(windows, windowStart, windowEnd)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return windows;
+    }
+
+    /**
+     * Adds [start, end) to {@code windows} if it is long enough.
+     * Returns false once {@code windows} holds as many windows as this query asks for.
+     */
+    private boolean addWindow(List<FreeWindow> windows, long start, long end) {
+        if (end - start >= minMinutes) {
+            windows.add(new FreeWindow(toDateTime(start), toDateTime(end)));
+        }
+        return windows.size() < limit;
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY)).atStartOfDay()
+                .plusMinutes(Math.floorMod(epochMinute, MINUTES_PER_DAY));
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int getMinMinutes() {
+        return minMinutes;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotQuery)) {
+            return false;
+        }
+
+        FreeSlotQuery otherQuery = (FreeSlotQuery) other;
+        return startDate.equals(otherQuery.startDate)
+                && endDate.equals(otherQuery.endDate)
+                && minMinutes == otherQuery.minMinutes
+                && dayStart.equals(otherQuery.dayStart)
+                && dayEnd.equals(otherQuery.dayEnd)
+                && limit == otherQuery.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, minMinutes, dayStart, dayEnd, limit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("minMinutes", minMinutes)
+                .add("dayStart", dayStart)
+                .add("dayEnd", dayEnd)
+                .add("limit", limit)
+                .toString();
+    }
+}
@@ -1,13 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.timesheet.FreeWindow;
+import seedu.address.model.person.timesheet.PersonTimesheet;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+import seedu.address.model.person.timesheet.WeekIndex;
 import seedu.address.storage.Storage;
 
 /**
@@ -79,6 +88,74 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons whose timeslots end before {@code time}, in chronological order.
+     */
+    List<Person> getPersonsEndedBefore(LocalDateTime time);
+
+    /**
+     * Returns the persons whose timeslots fall on dates from {@code from} to {@code to} inclusive,
+     * in chronological order.
+     */
+    List<Person> getPersonsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the first free windows between booked lessons that match {@code query}, in time order.
+     */
+    List<FreeWindow> findFreeSlots(FreeSlotQuery query);
+
+    /**
+     * Returns the availability timesheet of the person with {@code personId} for {@code week}, if one is recorded.
+     */
+    Optional<PersonTimesheet> getTimesheet(PersonId personId, WeekIndex week);
+
+    /**
+     * Records {@code timesheet}, replacing any timesheet of the same person for the same week.
+     */
+    void setTimesheet(PersonTimesheet timesheet);
+
+    /**
+     * Marks the person with {@code personId} as available from {@code start} to {@code end} in their timesheet
+     * for that week. {@code start} and {@code end} must lie in the same week.
+     */
+    void markAvailable(PersonId personId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Marks the person with {@code personId} as unavailable from {@code start} to {@code end} in their timesheet
+     * for that week. {@code start} and {@code end} must lie in the same week.
+     * In a week with no availability recorded, the person stays available at every other time.
+     */
+    void markUnavailable(PersonId personId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the persons whose timesheets show them available for the whole of {@code start} to {@code end},
+     * in no particular order.
+     * {@code start} must be before {@code end}, in the same week.
+     */
+    List<Person> getPersonsAvailable(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the recorded availability of every person in compressed form, such as for saving it.
+     */
+    TimesheetArchive getTimesheetArchive();
+
+    /**
+     * Returns true if the recorded availability changed since it was last marked saved.
+     */
+    boolean hasUnsavedTimesheets();
+
+    /**
+     * Records that the recorded availability as it is now has been saved.
+     */
+    void markTimesheetsSaved();
+
+    /**
+     * Stages the changes made by {@code changes} and then applies them all at once.
+     * Changes rejected while staging are left out. If {@code changes} throws, none of the changes are applied
+     * and the exception is passed on.
+     */
+    void batch(Consumer<MutableModelTx> changes);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,18 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.TimeSlotConflictException;
+import seedu.address.model.person.timesheet.FreeWindow;
+import seedu.address.model.person.timesheet.PersonTimesheet;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+import seedu.address.model.person.timesheet.TimesheetBook;
+import seedu.address.model.person.timesheet.WeekIndex;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -29,26 +38,36 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedPersons;
+    private final FilteredPersonList filteredPersons;
     private final Storage storage;
+    private final TimesheetBook timesheets;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook, userPrefs and timesheets.
+     * Timesheets of persons not in {@code addressBook} are dropped.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Storage storage) {
-        requireAllNonNull(addressBook, userPrefs);
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Storage storage,
+            TimesheetBook timesheets) {
+        requireAllNonNull(addressBook, userPrefs, timesheets);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        sortedPersons = new SortedList<>(filteredPersons);
+        filteredPersons = new FilteredPersonList(this.addressBook);
         this.storage = storage;
         if (storage instanceof StorageManager) {
             storage.loadExistingSlots(addressBook);
         }
+        this.timesheets = timesheets;
+        removeOrphanTimesheets();
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, and no timesheets.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Storage storage) {
+        this(addressBook, userPrefs, storage, new TimesheetBook());
     }
 
     /**
@@ -117,6 +136,7 @@ public class ModelManager implements Model {
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
         storage.loadExistingSlots(this.addressBook);
+        removeOrphanTimesheets();
         logger.info("Address book reset. Storage timeslots re-synced with address book.");
     }
 
@@ -135,6 +155,7 @@ public class ModelManager implements Model {
     public void deletePerson(Person target) {
         storage.removeSlot(target.getTimeSlot());
         addressBook.removePerson(target);
+        timesheets.removePerson(target.getId());
         logger.fine("Deleted person: " + target.getName());
     }
 
@@ -178,6 +199,103 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public List<Person> getPersonsEndedBefore(LocalDateTime time) {
+        return addressBook.getPersonsEndedBefore(time);
+    }
+
+    @Override
+    public List<Person> getPersonsBetween(LocalDate from, LocalDate to) {
+        return addressBook.getPersonsBetween(from, to);
+    }
+
+    @Override
+    public List<FreeWindow> findFreeSlots(FreeSlotQuery query) {
+        requireNonNull(query);
+        return addressBook.findFreeSlots(query);
+    }
+
+    @Override
+    public Optional<PersonTimesheet> getTimesheet(PersonId personId, WeekIndex week) {
+        return timesheets.getTimesheet(personId, week);
+    }
+
+    @Override
+    public void setTimesheet(PersonTimesheet timesheet) {
+        requireNonNull(timesheet);
+        timesheets.setTimesheet(timesheet);
+    }
+
+    @Override
+    public void markAvailable(PersonId personId, LocalDateTime start, LocalDateTime end) {
+        timesheets.markAvailable(personId, start, end);
+    }
+
+    @Override
+    public void markUnavailable(PersonId personId, LocalDateTime start, LocalDateTime end) {
+        timesheets.markUnavailable(personId, start, end);
+    }
+
+    @Override
+    public List<Person> getPersonsAvailable(LocalDateTime start, LocalDateTime end) {
+        return timesheets.findAvailable(start, end).stream()
+                .map(addressBook::findById)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public TimesheetArchive getTimesheetArchive() {
+        return timesheets.getRepository().flush();
+    }
+
+    @Override
+    public boolean hasUnsavedTimesheets() {
+        return timesheets.getRepository().hasUnsavedChanges();
+    }
+
+    @Override
+    public void markTimesheetsSaved() {
+        timesheets.getRepository().markSaved();
+    }
+
+    /**
+     * Removes the timesheets of persons no longer in the address book.
+     */
+    private void removeOrphanTimesheets() {
+        timesheets.retainPersons(addressBook.getPersonList().stream()
+                .map(Person::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public void batch(Consumer<MutableModelTx> changes) {
+        requireNonNull(changes);
+        ModelTransaction transaction = new ModelTransaction(addressBook);
+        // if changes throws, the transaction is dropped and nothing staged in it is applied
+        changes.accept(transaction);
+        commit(transaction);
+    }
+
+    /**
+     * Applies the changes staged in {@code transaction} with a single replacement of the person list.
+     */
+    private void commit(ModelTransaction transaction) {
+        if (transaction.isEmpty()) {
+            return;
+        }
+        transaction.getRemovedPersons().forEach(person -> storage.removeSlot(person.getTimeSlot()));
+        transaction.getAddedPersons().stream()
+                .filter(person -> person.getTimeSlot() != null)
+                .forEach(person -> storage.addSlot(person.getTimeSlot()));
+        addressBook.setPersons(transaction.getStagedPersons());
+        transaction.getRemovedPersons().stream()
+                .filter(person -> addressBook.findById(person.getId()).isEmpty())
+                .forEach(person -> timesheets.removePerson(person.getId()));
+        logger.fine("Applied batch: removed " + transaction.getRemovedPersons().size()
+                + ", added " + transaction.getAddedPersons().size());
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -186,7 +304,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return sortedPersons;
+        return filteredPersons.asUnmodifiableObservableList();
     }
 
     @Override
@@ -209,7 +327,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && sortedPersons.equals(otherModelManager.sortedPersons);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList());
     }
 
     @Override
@@ -233,17 +351,10 @@ public class ModelManager implements Model {
      */
     private Optional<Person> findDuplicatePhone(Person personToCheck, Person personToIgnore) {
         requireNonNull(personToCheck);
-        for (Person existingPerson : addressBook.getPersonList()) {
-            // Skip the person being ignored (if any)
-            if (personToIgnore != null && existingPerson.hasSameDetails(personToIgnore)) {
-                continue;
-            }
-            // Check if phone numbers are the same
-            if (existingPerson.getPhone().equals(personToCheck.getPhone())) {
-                return Optional.of(existingPerson); // Found a duplicate, return the person
-            }
-        }
-        return Optional.empty(); // No duplicates found
+        return addressBook.findByPhone(personToCheck.getPhone()).stream()
+                // Skip the person being ignored (if any)
+                .filter(existingPerson -> personToIgnore == null || !existingPerson.hasSameDetails(personToIgnore))
+                .findFirst();
     }
 
     /**
@@ -256,14 +367,9 @@ public class ModelManager implements Model {
      */
     private Optional<Person> findDuplicateEmail(Person personToCheck, Person personToIgnore) {
         requireNonNull(personToCheck);
-        for (Person existingPerson : addressBook.getPersonList()) {
-            if (personToIgnore != null && existingPerson.hasSameDetails(personToIgnore)) {
-                continue;
-            }
-            if (existingPerson.getEmail().equals(personToCheck.getEmail())) {
-                return Optional.of(existingPerson);
-            }
-        }
-        return Optional.empty();
+        return addressBook.findByEmail(personToCheck.getEmail()).stream()
+                .filter(existingPerson -> personToIgnore == null || !existingPerson.hasSameDetails(personToIgnore))
+                .filter(existingPerson -> existingPerson.getEmail().equals(personToCheck.getEmail()))
+                .findFirst();
     }
 }
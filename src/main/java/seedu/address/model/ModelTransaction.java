@@ -0,0 +1,166 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.exceptions.TimeSlotConflictException;
+
+/**
+ * A {@code MutableModelTx} that stages changes on top of an {@code AddressBook} without touching it.
+ * The address book's indexes answer queries about the persons left untouched,
+ * while a separate schedule index holds the timeslots of the staged additions.
+ */
+class ModelTransaction implements MutableModelTx {
+
+    private final AddressBook addressBook;
+    private final Set<Person> removed = new HashSet<>();
+    private final Set<Person> added = new LinkedHashSet<>();
+    // The identities of the staged persons, so that duplicate checks are hash lookups
+    private final Set<PersonIdentity> removedIdentities = new HashSet<>();
+    private final Set<PersonIdentity> addedIdentities = new HashSet<>();
+    private final ScheduleIndex addedSchedule = new ScheduleIndex();
+
+    ModelTransaction(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        requireNonNull(target);
+        unstage(target);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        if (hasPerson(person)) {
+            throw new DuplicatePersonException();
+        }
+        if (person.getTimeSlot() != null) {
+            Optional<Person> conflict = findConflict(person.getTimeSlot());
+            if (conflict.isPresent()) {
+                throw new TimeSlotConflictException(conflict.get());
+            }
+        }
+        stage(person);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        boolean wasAdded = unstage(target);
+        try {
+            if (!target.hasSameDetails(editedPerson) && hasPerson(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            TimeSlot editedSlot = editedPerson.getTimeSlot();
+            if (editedSlot != null && !Objects.equals(target.getTimeSlot(), editedSlot)) {
+                Optional<Person> conflict = findConflict(editedSlot);
+                if (conflict.isPresent()) {
+                    throw new TimeSlotConflictException(conflict.get());
+                }
+            }
+        } catch (DuplicatePersonException | TimeSlotConflictException e) {
+            // Leave the staged state as it was before this change
+            if (wasAdded) {
+                stage(target);
+            } else {
+                removed.remove(target);
+                removedIdentities.remove(new PersonIdentity(target));
+            }
+            throw e;
+        }
+        stage(editedPerson);
+    }
+
+    /**
+     * Returns true if no changes have been staged.
+     */
+    boolean isEmpty() {
+        return removed.isEmpty() && added.isEmpty();
+    }
+
+    /**
+     * Returns the persons of the address book that this transaction removes or replaces.
+     */
+    Set<Person> getRemovedPersons() {
+        return removed;
+    }
+
+    /**
+     * Returns the persons this transaction adds, including the replacements of edited persons, in the order added.
+     */
+    Set<Person> getAddedPersons() {
+        return added;
+    }
+
+    /**
+     * Returns the persons of the address book as they are after the staged changes.
+     */
+    List<Person> getStagedPersons() {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size() - removed.size() + added.size());
+        for (Person person : addressBook.getPersonList()) {
+            if (!removed.contains(person)) {
+                persons.add(person);
+            }
+        }
+        persons.addAll(added);
+        return persons;
+    }
+
+    private void stage(Person person) {
+        added.add(person);
+        addedIdentities.add(new PersonIdentity(person));
+        addedSchedule.add(person);
+    }
+
+    /**
+     * Removes {@code target} from the staged state.
+     * Returns true if it was a staged addition rather than a person of the address book.
+     */
+    private boolean unstage(Person target) {
+        if (added.remove(target)) {
+            addedIdentities.remove(new PersonIdentity(target));
+            addedSchedule.remove(target);
+            return true;
+        }
+        // Only the few persons sharing the target's phone number need to be compared
+        if (removed.contains(target) || !addressBook.findByPhone(target.getPhone()).contains(target)) {
+            throw new PersonNotFoundException();
+        }
+        removed.add(target);
+        removedIdentities.add(new PersonIdentity(target));
+        return false;
+    }
+
+    private boolean hasPerson(Person person) {
+        PersonIdentity identity = new PersonIdentity(person);
+        if (addedIdentities.contains(identity)) {
+            return true;
+        }
+        return addressBook.hasPerson(person) && !removedIdentities.contains(identity);
+    }
+
+    private Optional<Person> findConflict(TimeSlot timeSlot) {
+        for (Person conflicting : addressBook.getConflictingPersons(timeSlot)) {
+            if (!removed.contains(conflicting)) {
+                return Optional.of(conflicting);
+            }
+        }
+        return addedSchedule.findFirstOverlap(timeSlot);
+    }
+}
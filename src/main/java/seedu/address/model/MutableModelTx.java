@@ -0,0 +1,35 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Stages changes to the persons of a {@code Model} so that they can be applied together.
+ * Each change is checked against the persons as they would be after the changes staged before it,
+ * and a change that fails its checks is not staged.
+ */
+public interface MutableModelTx {
+
+    /**
+     * Stages the deletion of {@code target}.
+     * @throws seedu.address.model.person.exceptions.PersonNotFoundException if {@code target} is not present.
+     */
+    void deletePerson(Person target);
+
+    /**
+     * Stages the addition of {@code person}.
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if the person is already present.
+     * @throws seedu.address.model.person.exceptions.TimeSlotConflictException if its timeslot conflicts
+     *     with another person's.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Stages the replacement of {@code target} with {@code editedPerson}.
+     * @throws seedu.address.model.person.exceptions.PersonNotFoundException if {@code target} is not present.
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if {@code editedPerson} has the
+     *     identity of another person.
+     * @throws seedu.address.model.person.exceptions.TimeSlotConflictException if its changed timeslot conflicts
+     *     with another person's.
+     */
+    void setPerson(Person target, Person editedPerson);
+}
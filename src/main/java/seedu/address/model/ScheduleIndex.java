@@ -0,0 +1,384 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Indexes the lessons in the address book by their time slots so that conflicts can be found
+ * without scanning every person.
+ *
+ * Backed by an AVL tree keyed on the absolute start and end minute of each slot. Every node also
+ * records the latest end minute in its subtree, which lets overlap queries skip whole subtrees
+ * that finish before the queried slot begins. Persons without a time slot are not indexed.
+ */
+public class ScheduleIndex {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Indexes {@code person} under its time slot.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        TimeSlot slot = person.getTimeSlot();
+        if (slot == null) {
+            return;
+        }
+        root = insert(root, slot.getStartEpochMinute(), slot.getEndEpochMinute(), person);
+        size++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     * Does nothing if the person was never indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        TimeSlot slot = person.getTimeSlot();
+        if (slot == null) {
+            return;
+        }
+        root = delete(root, slot.getStartEpochMinute(), slot.getEndEpochMinute(), person);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Rebuilds the index so that it contains exactly {@code persons}.
+     * When {@code persons} is already in chronological order, as the address book's person list is,
+     * the tree is built directly in linear time instead of by repeated insertion.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        clear();
+        List<Node> nodes = new ArrayList<>();
+        for (Person person : persons) {
+            TimeSlot slot = person.getTimeSlot();
+            if (slot == null) {
+                continue;
+            }
+            long start = slot.getStartEpochMinute();
+            long end = slot.getEndEpochMinute();
+            Node last = nodes.isEmpty() ? null : nodes.get(nodes.size() - 1);
+            int cmp = last == null ? 1 : compare(start, end, last);
+            if (cmp < 0) {
+                // Out of order, so fall back to inserting one by one
+                clear();
+                persons.forEach(this::add);
+                return;
+            }
+            if (cmp == 0) {
+                last.persons.add(person);
+            } else {
+                nodes.add(new Node(start, end, person));
+            }
+            size++;
+        }
+        root = buildBalanced(nodes, 0, nodes.size());
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the earliest-starting person whose time slot overlaps {@code timeSlot}.
+     */
+    public Optional<Person> findFirstOverlap(TimeSlot timeSlot) {
+        return findFirstOverlap(timeSlot, person -> false);
+    }
+
+    /**
+     * Returns the earliest-starting person whose time slot overlaps {@code timeSlot},
+     * skipping any person matched by {@code exclusion}.
+     */
+    public Optional<Person> findFirstOverlap(TimeSlot timeSlot, Predicate<Person> exclusion) {
+        requireNonNull(timeSlot);
+        requireNonNull(exclusion);
+        List<Person> found = new ArrayList<>(1);
+        collectOverlaps(root, timeSlot.getStartEpochMinute(), timeSlot.getEndEpochMinute(), exclusion, found, 1);
+        return found.stream().findFirst();
+    }
+
+    /**
+     * Returns every person whose time slot overlaps {@code timeSlot}, in chronological order.
+     */
+    public List<Person> findAllOverlaps(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        List<Person> found = new ArrayList<>();
+        collectOverlaps(root, timeSlot.getStartEpochMinute(), timeSlot.getEndEpochMinute(), person -> false,
+                found, Integer.MAX_VALUE);
+        return found;
+    }
+
+    /**
+     * Sweeps [start, end) in time order, passing each maximal interval that no lesson covers to {@code visitor}
+     * until it returns false. Times are in minutes from the epoch.
+     * Only the lessons up to the last gap visited are looked at, so stopping early is cheap however many
+     * lessons come later.
+     */
+    public void forEachGap(long start, long end, GapVisitor visitor) {
+        requireNonNull(visitor);
+        GapSweep sweep = new GapSweep(start, end, visitor);
+        if (sweep.visit(root) && sweep.cursor < end) {
+            visitor.visit(sweep.cursor, end);
+        }
+    }
+
+    /**
+     * Receives the free intervals found by {@link #forEachGap}.
+     */
+    @FunctionalInterface
+    public interface GapVisitor {
+        /**
+         * Receives the free interval [start, end), in minutes from the epoch.
+         * Returns true to continue the sweep, or false to stop it.
+         */
+        boolean visit(long start, long end);
+    }
+
+    //// overlap search
+
+    /**
+     * Appends to {@code found}, in start order, persons overlapping [start, end) until {@code limit} is reached.
+     * Returns true once the limit has been reached so that callers can stop early.
+     */
+    private static boolean collectOverlaps(Node node, long start, long end, Predicate<Person> exclusion,
+                                           List<Person> found, int limit) {
+        if (node == null || node.maxEnd <= start) {
+            return false; // nothing in this subtree ends after the query begins
+        }
+        if (collectOverlaps(node.left, start, end, exclusion, found, limit)) {
+            return true;
+        }
+        if (node.start >= end) {
+            return false; // this node and its right subtree all begin after the query ends
+        }
+        if (node.end > start) {
+            for (Person person : node.persons) {
+                if (!exclusion.test(person)) {
+                    found.add(person);
+                    if (found.size() >= limit) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return collectOverlaps(node.right, start, end, exclusion, found, limit);
+    }
+
+    /**
+     * Walks the lessons overlapping [start, end) in start order, reporting the gaps between them.
+     */
+    private static class GapSweep {
+        private final long start;
+        private final long end;
+        private final GapVisitor visitor;
+        private long cursor; // the end of the latest lesson seen so far, or start
+
+        GapSweep(long start, long end, GapVisitor visitor) {
+            this.start = start;
+            this.end = end;
+            this.visitor = visitor;
+            this.cursor = start;
+        }
+
+        /**
+         * Sweeps the subtree rooted at {@code node}. Returns false once the visitor has stopped the sweep.
+         */
+        boolean visit(Node node) {
+            if (node == null || node.maxEnd <= start) {
+                return true; // nothing in this subtree ends after the sweep begins
+            }
+            if (!visit(node.left)) {
+                return false;
+            }
+            if (node.start >= end) {
+                return true; // this node and its right subtree all begin after the sweep ends
+            }
+            if (node.end > start) {
+                if (node.start > cursor && !visitor.visit(cursor, node.start)) {
+                    return false;
+                }
+                cursor = Math.max(cursor, node.end);
+            }
+            return visit(node.right);
+        }
+    }
+
+    //// AVL tree maintenance
+
+    private Node insert(Node node, long start, long end, Person person) {
+        if (node == null) {
+            return new Node(start, end, person);
+        }
+        int cmp = compare(start, end, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, start, end, person);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, start, end, person);
+        } else {
+            node.persons.add(person);
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, long start, long end, Person person) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, end, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, end, person);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, end, person);
+        } else {
+            if (!node.persons.remove(person)) {
+                return node;
+            }
+            size--;
+            if (!node.persons.isEmpty()) {
+                return node;
+            }
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = detachMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Links the sorted {@code nodes} in [from, to) into a height-balanced tree and returns its root.
+     */
+    private static Node buildBalanced(List<Node> nodes, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node node = nodes.get(mid);
+        node.left = buildBalanced(nodes, from, mid);
+        node.right = buildBalanced(nodes, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    private static Node detachMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = detachMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(long start, long end, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(end, node.end);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static long maxEnd(Node node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    /**
+     * A tree node holding every person booked for exactly the same [start, end) interval.
+     */
+    private static class Node {
+        final long start;
+        final long end;
+        final List<Person> persons = new ArrayList<>(1);
+        long maxEnd;
+        int height;
+        Node left;
+        Node right;
+
+        Node(long start, long end, Person person) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.height = 1;
+            persons.add(person);
+        }
+    }
+}
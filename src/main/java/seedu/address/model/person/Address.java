@@ -30,7 +30,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return PersonFieldValidator.isSingleLineText(test, MAX_LENGTH);
     }
 
     @Override
@@ -50,7 +50,7 @@ public class Address {
         }
 
         Address otherAddress = (Address) other;
-        return value.equals(otherAddress.value);
+        return value.hashCode() == otherAddress.value.hashCode() && value.equals(otherAddress.value);
     }
 
     @Override
@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Indexes persons by their normalized phone number and email so that either can be looked up directly.
+ * Phone numbers are kept as entered, since they only hold digits. Emails are lowercased.
+ * Several persons may share a phone number or an email, so each key maps to every person using it.
+ */
+public class ContactIndex {
+
+    private final Map<String, List<Person>> personsByPhone = new HashMap<>();
+    private final Map<String, List<Person>> personsByEmail = new HashMap<>();
+
+    /**
+     * Indexes {@code person} under its phone number and email.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByPhone.computeIfAbsent(normalize(person.getPhone()), key -> new ArrayList<>(1)).add(person);
+        personsByEmail.computeIfAbsent(normalize(person.getEmail()), key -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person was never indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        removeFrom(personsByPhone, normalize(person.getPhone()), person);
+        removeFrom(personsByEmail, normalize(person.getEmail()), person);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Rebuilds the index so that it contains exactly {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByPhone.clear();
+        personsByEmail.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with the given phone number.
+     */
+    public List<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return Collections.unmodifiableList(personsByPhone.getOrDefault(normalize(phone), List.of()));
+    }
+
+    /**
+     * Returns the persons with the given email, ignoring case.
+     */
+    public List<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return Collections.unmodifiableList(personsByEmail.getOrDefault(normalize(email), List.of()));
+    }
+
+    private static String normalize(Phone phone) {
+        return phone.value;
+    }
+
+    private static String normalize(Email email) {
+        return email.value.toLowerCase(Locale.ROOT);
+    }
+
+    private static void removeFrom(Map<String, List<Person>> index, String key, Person person) {
+        List<Person> persons = index.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
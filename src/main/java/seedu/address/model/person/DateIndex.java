@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Groups persons by the date of their timeslot, and within each date by the start time of their timeslot.
+ * Lets timeslot filters visit only the dates and start times they ask for instead of every person.
+ * Persons without a timeslot are not indexed.
+ */
+public class DateIndex {
+
+    private final TreeMap<LocalDate, TreeMap<LocalTime, List<Person>>> days = new TreeMap<>();
+
+    /**
+     * Indexes {@code person} under the date and start time of its timeslot.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        TimeSlot slot = person.getTimeSlot();
+        if (slot == null) {
+            return;
+        }
+        days.computeIfAbsent(slot.getDate(), date -> new TreeMap<>())
+                .computeIfAbsent(slot.getStartTime(), time -> new ArrayList<>(1))
+                .add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person was never indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        TimeSlot slot = person.getTimeSlot();
+        if (slot == null) {
+            return;
+        }
+        TreeMap<LocalTime, List<Person>> day = days.get(slot.getDate());
+        if (day == null) {
+            return;
+        }
+        List<Person> starting = day.get(slot.getStartTime());
+        if (starting == null || !starting.remove(person)) {
+            return;
+        }
+        if (starting.isEmpty()) {
+            day.remove(slot.getStartTime());
+        }
+        if (day.isEmpty()) {
+            days.remove(slot.getDate());
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Rebuilds the index so that it contains exactly {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        days.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a read-only view of the indexed dates from {@code from} to {@code to}, both inclusive.
+     * A missing bound leaves that end of the range open. Each date maps start times to the persons starting then.
+     */
+    public NavigableMap<LocalDate, ? extends NavigableMap<LocalTime, List<Person>>> getDays(
+            Optional<LocalDate> from, Optional<LocalDate> to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            return Collections.emptyNavigableMap();
+        }
+        NavigableMap<LocalDate, TreeMap<LocalTime, List<Person>>> range = days;
+        if (from.isPresent()) {
+            range = range.tailMap(from.get(), true);
+        }
+        if (to.isPresent()) {
+            range = range.headMap(to.get(), true);
+        }
+        return Collections.unmodifiableNavigableMap(range);
+    }
+
+    /**
+     * Returns a read-only view of the start times on {@code date}, each mapped to the persons starting then.
+     */
+    public NavigableMap<LocalTime, List<Person>> getDay(LocalDate date) {
+        requireNonNull(date);
+        TreeMap<LocalTime, List<Person>> day = days.get(date);
+        return day == null ? Collections.emptyNavigableMap() : Collections.unmodifiableNavigableMap(day);
+    }
+}
@@ -31,7 +31,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return PersonFieldValidator.isSingleLineText(test, MAX_LENGTH);
     }
 
 
@@ -52,7 +52,8 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equals(otherName.fullName);
+        // String caches its hash code, so comparing hashes first rejects most unequal names cheaply
+        return fullName.hashCode() == otherName.fullName.hashCode() && fullName.equals(otherName.fullName);
     }
 
     @Override
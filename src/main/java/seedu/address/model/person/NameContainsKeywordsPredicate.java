@@ -1,6 +1,10 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -22,6 +26,25 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate. Only the candidates the index
+     * finds for each keyword are checked against the keyword.
+     */
+    public List<Person> findMatches(NameIndex index) {
+        Set<Person> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> matches = new ArrayList<>();
+        for (String keyword : keywords) {
+            for (Person candidate : index.findCandidates(keyword)) {
+                if (!seen.contains(candidate)
+                        && StringUtil.containsWordIgnoreCase(candidate.getName().fullName, keyword)) {
+                    seen.add(candidate);
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
     /**
      * Returns the list of keywords.
      */
@@ -0,0 +1,194 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes persons by the n-grams of the lowercased words in their names, so that substring searches
+ * only need to check the persons whose names contain every n-gram of the keyword.
+ *
+ * Every substring of up to {@value #GRAM_LENGTH} characters of each word is indexed, which lets
+ * keywords shorter than {@value #GRAM_LENGTH} characters be looked up directly as well.
+ * Each n-gram maps to a sorted list of slots owned by this index, one slot per indexed person.
+ */
+public class NameIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    private final Map<Person, Integer> slotsByPerson = new HashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+
+    /**
+     * Indexes {@code person} under the n-grams of its name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = occupiedSlots.nextClearBit(0);
+        occupiedSlots.set(slot);
+        if (slot == persons.size()) {
+            persons.add(person);
+        } else {
+            persons.set(slot, person);
+        }
+        slotsByPerson.put(person, slot);
+        for (String gram : gramsOf(person.getName())) {
+            postings.computeIfAbsent(gram, unused -> new PostingList()).add(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person was never indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+        for (String gram : gramsOf(person.getName())) {
+            PostingList postingList = postings.get(gram);
+            postingList.remove(slot);
+            if (postingList.size == 0) {
+                postings.remove(gram);
+            }
+        }
+        persons.set(slot, null);
+        occupiedSlots.clear(slot);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Rebuilds the index so that it contains exactly {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        slotsByPerson.clear();
+        this.persons.clear();
+        occupiedSlots.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose names contain every n-gram of {@code keyword}, ignoring case.
+     * This includes every person with a name word containing {@code keyword}, but may also include
+     * persons whose name only contains the n-grams out of order, so callers must verify each candidate.
+     */
+    public List<Person> findCandidates(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (lowerCaseKeyword.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int gramLength = Math.min(GRAM_LENGTH, lowerCaseKeyword.length());
+        List<PostingList> lists = new ArrayList<>();
+        for (int i = 0; i + gramLength <= lowerCaseKeyword.length(); i++) {
+            PostingList postingList = postings.get(lowerCaseKeyword.substring(i, i + gramLength));
+            if (postingList == null) {
+                return new ArrayList<>();
+            }
+            lists.add(postingList);
+        }
+        lists.sort(Comparator.comparingInt(postingList -> postingList.size));
+
+        int[] candidates = Arrays.copyOf(lists.get(0).slots, lists.get(0).size);
+        int count = candidates.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            count = lists.get(i).retainAll(candidates, count);
+        }
+
+        List<Person> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(persons.get(candidates[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Returns every distinct substring of up to {@value #GRAM_LENGTH} characters of each lowercased word in
+     * {@code name}.
+     */
+    private static Set<String> gramsOf(Name name) {
+        Set<String> grams = new HashSet<>();
+        for (String word : name.fullName.split("\\s+")) {
+            String lowerCaseWord = word.toLowerCase();
+            for (int start = 0; start < lowerCaseWord.length(); start++) {
+                int maxEnd = Math.min(start + GRAM_LENGTH, lowerCaseWord.length());
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    grams.add(lowerCaseWord.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * A sorted list of the slots of the persons whose names contain an n-gram.
+     */
+    private static class PostingList {
+        private int[] slots = new int[2];
+        private int size;
+
+        void add(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                return;
+            }
+            int insertionPoint = -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, insertionPoint, slots, insertionPoint + 1, size - insertionPoint);
+            slots[insertionPoint] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+        }
+
+        /**
+         * Keeps only the first {@code count} sorted {@code candidates} that are also in this list,
+         * compacting them to the front of the array. Returns the number kept.
+         */
+        int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                int index = Arrays.binarySearch(slots, from, size, candidates[i]);
+                if (index >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return kept;
+        }
+    }
+}
@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -16,6 +15,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Stable id, kept across edits; not part of equality
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,19 +26,38 @@ public class Person {
     // Data fields
     private final Address address;
     private final TimeSlot timeSlot;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    // Every field is immutable, so the hash code is computed once
+    private final int hash;
 
     /**
+     * Creates a new person with a fresh id.
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, TimeSlot timeSlot, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(PersonId.next(), name, phone, email, address, timeSlot, tags);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, such as an edited version of an existing person.
+     * Every field must be present and not null.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, TimeSlot timeSlot,
+                  Set<Tag> tags) {
+        requireAllNonNull(id, name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.timeSlot = timeSlot;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.hash = Objects.hash(name, phone, email, address, this.tags, timeSlot);
+    }
+
+    public PersonId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -64,7 +85,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -84,6 +105,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The ids are not compared, so a person equals a copy of it made separately.
      */
     @Override
     public boolean equals(Object other) {
@@ -97,7 +119,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -107,8 +130,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, timeSlot);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Validates raw strings for the fields of a {@code Person} without throwing exceptions.
+ * Each {@code validate} method returns the field built from a valid string, or the field's constraint message.
+ * The fields' own {@code isValid} checks are built on the scanners here, which check a string in a single pass
+ * instead of matching it against a regular expression compiled on every call.
+ */
+public class PersonFieldValidator {
+
+    private PersonFieldValidator() {}
+
+    /**
+     * Returns the {@code Name} for {@code name}, or why it is not a valid name.
+     */
+    public static ValidationResult<Name> validateName(String name) {
+        return Name.isValidName(name)
+                ? ValidationResult.success(new Name(name))
+                : ValidationResult.failure(Name.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the {@code Phone} for {@code phone}, or why it is not a valid phone number.
+     */
+    public static ValidationResult<Phone> validatePhone(String phone) {
+        return Phone.isValidPhone(phone)
+                ? ValidationResult.success(new Phone(phone))
+                : ValidationResult.failure(Phone.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the {@code Email} for {@code email}, or why it is not a valid email.
+     */
+    public static ValidationResult<Email> validateEmail(String email) {
+        return Email.isValidEmail(email)
+                ? ValidationResult.success(new Email(email))
+                : ValidationResult.failure(Email.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the {@code Address} for {@code address}, or why it is not a valid address.
+     */
+    public static ValidationResult<Address> validateAddress(String address) {
+        return Address.isValidAddress(address)
+                ? ValidationResult.success(new Address(address))
+                : ValidationResult.failure(Address.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}, or why it is not a valid tag name.
+     */
+    public static ValidationResult<Tag> validateTag(String tagName) {
+        return Tag.isValidTagName(tagName)
+                ? ValidationResult.success(Tag.of(tagName))
+                : ValidationResult.failure(Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns true if {@code test} is a single line of at most {@code maxLength} characters
+     * that does not start with whitespace. This is the regex {@code [^\s].*} with a length limit.
+     */
+    public static boolean isSingleLineText(String test, int maxLength) {
+        int length = test.length();
+        if (length == 0 || length > maxLength || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of {@code minLength} to {@code maxLength} ASCII digits.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of 1 to {@code maxLength} ASCII letters and digits.
+     */
+    public static boolean isAlphanumeric(String test, int maxLength) {
+        int length = test.length();
+        if (length == 0 || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by the regex {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
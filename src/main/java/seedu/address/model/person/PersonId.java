@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the stable id of a Person in the address book.
+ * A person keeps its id when edited and the id is saved with the person, so other records can refer to the person
+ * by id even though its details change.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person ids should be positive whole numbers.";
+
+    // The largest id issued or loaded so far, so that new ids never clash with saved ones
+    private static final AtomicLong largestId = new AtomicLong();
+
+    private final long value;
+
+    private PersonId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns an id that has not been issued or loaded before.
+     */
+    public static PersonId next() {
+        return new PersonId(largestId.incrementAndGet());
+    }
+
+    /**
+     * Returns the id with the given {@code value}, such as one read from storage.
+     * Ids issued later by {@link #next()} will be larger than it.
+     *
+     * @param value A valid id value.
+     */
+    public static PersonId of(long value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        largestId.accumulateAndGet(value, Math::max);
+        return new PersonId(value);
+    }
+
+    /**
+     * Returns true if a given number is a valid id.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherId = (PersonId) other;
+        return value == otherId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
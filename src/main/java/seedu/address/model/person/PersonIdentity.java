@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * The fields compared by {@code Person#hasSameDetails(Person)}, usable as a hash key.
+ * Two persons have the same details exactly when their identities are equal.
+ */
+public final class PersonIdentity {
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+
+    /**
+     * Creates the identity of {@code person}.
+     */
+    public PersonIdentity(Person person) {
+        requireNonNull(person);
+        name = person.getName();
+        phone = person.getPhone();
+        email = person.getEmail();
+        address = person.getAddress();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return name.equals(otherIdentity.name)
+                && phone.equals(otherIdentity.phone)
+                && email.equals(otherIdentity.email)
+                && address.equals(otherIdentity.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, address);
+    }
+}
@@ -10,6 +10,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Phone {
 
     public static final String VALIDATION_REGEX = "\\d{3,20}";
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 20;
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be 3 to 20 digits long";
     public final String value;
@@ -29,7 +31,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return PersonFieldValidator.isDigits(test, MIN_LENGTH, MAX_LENGTH);
     }
 
     @Override
@@ -49,7 +51,7 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.equals(otherPhone.value);
+        return value.hashCode() == otherPhone.value.hashCode() && value.equals(otherPhone.value);
     }
 
     @Override
@@ -0,0 +1,204 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Represents a lesson that repeats every few weeks from an anchor time slot, optionally until an end date
+ * and skipping some dates.
+ * Occurrences are computed arithmetically from the anchor instead of stepping through every period,
+ * so finding the next occurrence takes constant time however old the anchor is.
+ * Guarantees: immutable.
+ */
+public class RecurringSeries {
+
+    public static final String MESSAGE_CONSTRAINTS = "The period of a recurring series must be at least one week.";
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final TimeSlot anchor;
+    private final int periodInWeeks;
+    private final Optional<LocalDate> until;
+    private final Set<LocalDate> exceptions;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param anchor The first occurrence of the series.
+     * @param periodInWeeks The number of weeks between consecutive occurrences.
+     * @param until The last date an occurrence may fall on, if the series ends.
+     * @param exceptions Dates on which the lesson does not take place.
+     */
+    public RecurringSeries(TimeSlot anchor, int periodInWeeks, Optional<LocalDate> until, Set<LocalDate> exceptions) {
+        requireAllNonNull(anchor, until, exceptions);
+        checkArgument(periodInWeeks >= 1, MESSAGE_CONSTRAINTS);
+        this.anchor = anchor;
+        this.periodInWeeks = periodInWeeks;
+        this.until = until;
+        this.exceptions = Set.copyOf(exceptions);
+    }
+
+    /**
+     * Returns a series repeating {@code anchor} every week with no end.
+     */
+    public static RecurringSeries weekly(TimeSlot anchor) {
+        return new RecurringSeries(anchor, 1, Optional.empty(), Set.of());
+    }
+
+    /**
+     * Returns the first occurrence that starts at or after {@code time},
+     * or an empty Optional if the series ends before then.
+     */
+    public Optional<TimeSlot> nextOccurrence(LocalDateTime time) {
+        requireNonNull(time);
+        long anchorSecond = toEpochSecond(LocalDateTime.of(anchor.getDate(), anchor.getStartTime()));
+        long timeSecond = toEpochSecond(time) + (time.getNano() > 0 ? 1 : 0);
+        long periodSeconds = periodInWeeks * DAYS_PER_WEEK * SECONDS_PER_DAY;
+        long index = Math.max(0, Math.floorDiv(timeSecond - anchorSecond + periodSeconds - 1, periodSeconds));
+        return firstOccurrenceFrom(index);
+    }
+
+    /**
+     * Returns the occurrences falling on dates from {@code from} to {@code to}, both inclusive, in order.
+     * Occurrences are computed one at a time as the returned iterable is traversed.
+     */
+    public Iterable<TimeSlot> occurrencesBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return () -> new OccurrenceIterator(firstIndexOnOrAfter(from), to);
+    }
+
+    public TimeSlot getAnchor() {
+        return anchor;
+    }
+
+    public int getPeriodInWeeks() {
+        return periodInWeeks;
+    }
+
+    public Optional<LocalDate> getUntil() {
+        return until;
+    }
+
+    public Set<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns the date of the occurrence with the given {@code index}, counting the anchor as 0.
+     */
+    private LocalDate dateOf(long index) {
+        return anchor.getDate().plusDays(index * periodInWeeks * DAYS_PER_WEEK);
+    }
+
+    /**
+     * Returns the smallest occurrence index whose date is on or after {@code date}.
+     */
+    private long firstIndexOnOrAfter(LocalDate date) {
+        long days = date.toEpochDay() - anchor.getDate().toEpochDay();
+        long periodDays = (long) periodInWeeks * DAYS_PER_WEEK;
+        return Math.max(0, Math.floorDiv(days + periodDays - 1, periodDays));
+    }
+
+    /**
+     * Returns the first occurrence with an index of at least {@code index} that is not an exception.
+     * Only the exception dates can make this step past more than one occurrence.
+     */
+    private Optional<TimeSlot> firstOccurrenceFrom(long index) {
+        LocalDate date = dateOf(index);
+        while (exceptions.contains(date)) {
+            date = date.plusWeeks(periodInWeeks);
+        }
+        if (until.isPresent() && date.isAfter(until.get())) {
+            return Optional.empty();
+        }
+        return Optional.of(TimeSlot.of(date, anchor.getStartTime(), anchor.getEndTime()));
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * SECONDS_PER_DAY + dateTime.toLocalTime().toSecondOfDay();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RecurringSeries)) {
+            return false;
+        }
+
+        RecurringSeries otherSeries = (RecurringSeries) other;
+        return anchor.equals(otherSeries.anchor)
+                && periodInWeeks == otherSeries.periodInWeeks
+                && until.equals(otherSeries.until)
+                && exceptions.equals(otherSeries.exceptions);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = anchor.hashCode();
+        result = 31 * result + periodInWeeks;
+        result = 31 * result + until.hashCode();
+        result = 31 * result + exceptions.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return anchor + " every " + periodInWeeks + " week(s)" + until.map(date -> " until " + date).orElse("");
+    }
+
+    /**
+     * Walks the occurrences from a starting index up to a last date, skipping exception dates.
+     */
+    private class OccurrenceIterator implements Iterator<TimeSlot> {
+        private final LocalDate last;
+        private long index;
+        private TimeSlot next;
+
+        OccurrenceIterator(long firstIndex, LocalDate to) {
+            this.index = firstIndex;
+            this.last = until.isPresent() && until.get().isBefore(to) ? until.get() : to;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public TimeSlot next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            TimeSlot current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            next = null;
+            LocalDate date = dateOf(index);
+            while (!date.isAfter(last)) {
+                index++;
+                if (!exceptions.contains(date)) {
+                    next = TimeSlot.of(date, anchor.getStartTime(), anchor.getEndTime());
+                    return;
+                }
+                date = dateOf(index);
+            }
+        }
+    }
+}
@@ -1,29 +1,76 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.TagIndex;
 
 /**
- * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Tag} matches the keywords given.
+ * At least one plain keyword must match a tag, if any are given. Every keyword prefixed with
+ * {@value #REQUIRED_PREFIX} must match a tag, and no keyword prefixed with {@value #EXCLUDED_PREFIX} may match a tag.
  */
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
+    public static final String REQUIRED_PREFIX = "+";
+    public static final String EXCLUDED_PREFIX = "-";
+
     private final List<String> keywords;
+    private final List<String> anyKeywords = new ArrayList<>();
+    private final List<String> requiredKeywords = new ArrayList<>();
+    private final List<String> excludedKeywords = new ArrayList<>();
 
+    /**
+     * Creates a predicate for the given {@code keywords}, each optionally prefixed with
+     * {@value #REQUIRED_PREFIX} or {@value #EXCLUDED_PREFIX}.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            if (keyword.startsWith(REQUIRED_PREFIX)) {
+                requiredKeywords.add(keyword.substring(REQUIRED_PREFIX.length()));
+            } else if (keyword.startsWith(EXCLUDED_PREFIX)) {
+                excludedKeywords.add(keyword.substring(EXCLUDED_PREFIX.length()));
+            } else {
+                anyKeywords.add(keyword);
+            }
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        // Returns true if any of the person's tags match any of the keywords (case-insensitive)
+        // Matching is case-insensitive
+        boolean matchesAny = anyKeywords.isEmpty()
+                ? !keywords.isEmpty()
+                : anyKeywords.stream().anyMatch(keyword -> hasTagContaining(person, keyword));
+        return matchesAny
+                && requiredKeywords.stream().allMatch(keyword -> hasTagContaining(person, keyword))
+                && excludedKeywords.stream().noneMatch(keyword -> hasTagContaining(person, keyword));
+    }
+
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate, by combining the bitmaps of
+     * the tags matching each keyword instead of testing every person.
+     */
+    public List<Person> findMatches(TagIndex index) {
+        BitSet matches;
+        if (anyKeywords.isEmpty()) {
+            matches = keywords.isEmpty() ? new BitSet() : index.getAllPersons();
+        } else {
+            matches = new BitSet();
+            anyKeywords.forEach(keyword -> matches.or(index.getPersonsTagged(keyword)));
+        }
+        requiredKeywords.forEach(keyword -> matches.and(index.getPersonsTagged(keyword)));
+        excludedKeywords.forEach(keyword -> matches.andNot(index.getPersonsTagged(keyword)));
+        return index.getPersons(matches);
+    }
+
+    private static boolean hasTagContaining(Person person, String keyword) {
         return person.getTags().stream()
-                .map(tag -> tag.tagName)
-                .anyMatch(tagName ->
-                        keywords.stream().anyMatch(keyword ->
-                                StringUtil.containsWordIgnoreCase(tagName, keyword)));
+                .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword));
     }
 
     @Override
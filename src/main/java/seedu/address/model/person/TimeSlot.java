@@ -1,19 +1,22 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 import seedu.address.logic.Messages;
 import seedu.address.model.person.exceptions.PastTimeSlotException;
 
 /**
  * Represents a Person's lesson time slot in the address book.
+ * Stored as a day number, a start minute and a duration, with the dates, times and display string
+ * created only when asked for.
  * Guarantees: immutable; is valid as declared in {@link #isValidTimeSlot(String)}
  */
 public class TimeSlot implements Comparable<TimeSlot> {
@@ -27,10 +30,20 @@ public class TimeSlot implements Comparable<TimeSlot> {
                     + "where start time is before end time and the duration is at least "
                     + MIN_DURATION_MINUTES + " minute.\n"
                     + "Example: 2025-11-12 1600-1800";
-    public final LocalDate date;
-    public final LocalTime startTime;
-    public final LocalTime endTime;
-    public final String value;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int DATE_LENGTH = "YYYY-MM-DD".length();
+    private static final int TIMES_LENGTH = "HHMM-HHMM".length();
+    // Results of scan for invalid input. Neither can be a packed timeslot, whose day number is far from -2^31.
+    private static final long INVALID_FORMAT = Long.MIN_VALUE;
+    private static final long INVALID_DATE = Long.MIN_VALUE + 1;
+
+    // Days since the epoch, minutes after midnight and length in minutes.
+    // Kept as primitives so that comparisons and overlap checks are plain integer arithmetic.
+    private final int epochDay;
+    private final short startMinute;
+    private final short durationMinutes;
+    private String value; // formatted on first use
 
     /**
      * Constructs a {@code TimeSlot}.
@@ -38,91 +51,70 @@ public class TimeSlot implements Comparable<TimeSlot> {
      * @param timeSlotString A valid time slot string in the format "YYYY-MM-DD HHMM-HHMM".
      */
     public TimeSlot(String timeSlotString) {
-        requireNonNull(timeSlotString);
-
-        // 1. Check basic format
-        String[] parts = timeSlotString.trim().split(" ");
-        if (parts.length != 2) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
-
-        // 2. Parse date (with specific error)
-        try {
-            this.date = LocalDate.parse(parts[0], DATE_FORMATTER);
-        } catch (DateTimeParseException e) {
-            String errorMsg = e.getMessage();
-            if (errorMsg.contains("Invalid value") || errorMsg.contains("Invalid date")) {
-                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_DATE, parts[0]), e);
-            } else {
-                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, e);
-            }
-        }
-
-        // 3. Parse times
-        String[] times = parts[1].split("-");
-        if (times.length != 2) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
-        try {
-            this.startTime = LocalTime.parse(times[0], TIME_FORMATTER);
-            this.endTime = LocalTime.parse(times[1], TIME_FORMATTER);
-
-            // 4. Validate time logic
-            if (!startTime.isBefore(endTime)) {
-                // You could add a more specific message here if needed
-                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-            }
-            Duration duration = Duration.between(startTime, endTime);
-            if (duration.toMinutes() < MIN_DURATION_MINUTES) {
-                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-            }
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, e);
-        }
+        this(scanValid(timeSlotString));
+    }
 
-        value = timeSlotString;
+    /**
+     * Creates a TimeSlot from the fields packed by {@link #scan(String)}.
+     */
+    private TimeSlot(long packed) {
+        this.epochDay = (int) (packed >> 32);
+        this.startMinute = (short) (packed >>> 16);
+        this.durationMinutes = (short) packed;
     }
 
     /**
      * Private constructor to create a new TimeSlot from its components.
-     * Used by getNextOccurrence.
+     * Used by {@link #of(LocalDate, LocalTime, LocalTime)}.
      */
     private TimeSlot(LocalDate date, LocalTime startTime, LocalTime endTime) {
         assert date != null : "Date cannot be null";
         assert startTime != null : "Start time cannot be null";
         assert endTime != null : "End time cannot be null";
         assert startTime.isBefore(endTime) : "Start time must be before end time";
-        this.date = date;
-        this.startTime = startTime;
-        this.endTime = endTime;
-
-        // Format the 'value' string to be consistent
-        this.value = date.format(DATE_FORMATTER) + " " + startTime.format(TIME_FORMATTER)
-                + "-" + endTime.format(TIME_FORMATTER);
+        this.epochDay = Math.toIntExact(date.toEpochDay());
+        this.startMinute = (short) minuteOfDay(startTime);
+        this.durationMinutes = (short) (minuteOfDay(endTime) - startMinute);
 
         // We can skip validation checks as we trust the internal method logic
     }
 
+    /**
+     * Returns a {@code TimeSlot} on {@code date} running from {@code startTime} to {@code endTime}.
+     *
+     * @throws IllegalArgumentException if {@code startTime} is not before {@code endTime},
+     *     or either time is not a whole minute.
+     */
+    public static TimeSlot of(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(date, startTime, endTime);
+        if (!startTime.isBefore(endTime) || !isWholeMinute(startTime) || !isWholeMinute(endTime)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return new TimeSlot(date, startTime, endTime);
+    }
+
     /**
      * Check whether the timeslot is in the past
      * @return a boolean value
      */
     public boolean isPast() {
-        if (this.date.isBefore(LocalDate.now())) {
-            return true;
-        } else if (this.date.isEqual(LocalDate.now())) {
-            return this.startTime.isBefore(LocalTime.now());
-        } else {
-            return false;
+        LocalDateTime now = LocalDateTime.now();
+        long today = now.toLocalDate().toEpochDay();
+        if (epochDay != today) {
+            return epochDay < today;
         }
+        return isBefore(startMinute, now.toLocalTime());
     }
 
     /**
      * Checks if this timeslot's end time is before the given time.
      */
     public boolean isPast(LocalDateTime now) {
-        LocalDateTime endDateTime = LocalDateTime.of(this.date, this.endTime);
-        return endDateTime.isBefore(now);
+        long today = now.toLocalDate().toEpochDay();
+        if (epochDay != today) {
+            return epochDay < today;
+        }
+        return isBefore(startMinute + durationMinutes, now.toLocalTime());
     }
 
     /**
@@ -139,48 +131,165 @@ public class TimeSlot implements Comparable<TimeSlot> {
      * Returns true if a given string is a valid time slot.
      */
     public static boolean isValidTimeSlot(String test) {
-        if (test == null) {
-            return false;
+        return test != null && !isError(scan(test));
+    }
+
+    /**
+     * Parses {@code timeSlotString} in the format "YYYY-MM-DD HHMM-HHMM", ignoring surrounding whitespace.
+     * Returns the parsed timeslot, or the reason the string is invalid, without throwing.
+     */
+    public static ValidationResult<TimeSlot> parse(String timeSlotString) {
+        requireNonNull(timeSlotString);
+        long packed = scan(timeSlotString);
+        if (isError(packed)) {
+            return ValidationResult.failure(errorMessage(packed, timeSlotString));
+        }
+        return ValidationResult.success(new TimeSlot(packed));
+    }
+
+    /**
+     * Scans {@code timeSlotString} in a single pass.
+     * Returns its day number, start minute and duration packed into one long,
+     * or {@link #INVALID_FORMAT} or {@link #INVALID_DATE} if it is not a valid time slot.
+     */
+    private static long scan(String timeSlotString) {
+        int from = 0;
+        int to = timeSlotString.length();
+        while (from < to && timeSlotString.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && timeSlotString.charAt(to - 1) <= ' ') {
+            to--;
+        }
+
+        // YYYY-MM-DD
+        int space = timeSlotString.indexOf(' ', from);
+        if (space < 0 || space >= to || space - from != DATE_LENGTH
+                || timeSlotString.charAt(from + 4) != '-' || timeSlotString.charAt(from + 7) != '-') {
+            return INVALID_FORMAT;
+        }
+        int year = digits(timeSlotString, from, 4);
+        int month = digits(timeSlotString, from + 5, 2);
+        int day = digits(timeSlotString, from + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return INVALID_FORMAT;
+        }
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return INVALID_DATE;
+        }
+
+        // HHMM-HHMM
+        int times = space + 1;
+        if (to - times != TIMES_LENGTH || timeSlotString.charAt(times + 4) != '-') {
+            return INVALID_FORMAT;
         }
-        try {
-            new TimeSlot(test);
-        } catch (IllegalArgumentException e) {
-            return false; // Constructor threw an error, so it's invalid
+        int start = minuteOfDay(timeSlotString, times);
+        int end = minuteOfDay(timeSlotString, times + 5);
+        if (start < 0 || end < 0 || end - start < MIN_DURATION_MINUTES) {
+            return INVALID_FORMAT;
         }
-        return true;
+
+        long epochDay = LocalDate.of(year, month, day).toEpochDay();
+        return epochDay << 32 | (long) start << 16 | (end - start);
+    }
+
+    /**
+     * Returns the fields packed by {@link #scan(String)} for a valid {@code timeSlotString}.
+     *
+     * @throws IllegalArgumentException if {@code timeSlotString} is not a valid time slot.
+     */
+    private static long scanValid(String timeSlotString) {
+        requireNonNull(timeSlotString);
+        long packed = scan(timeSlotString);
+        if (isError(packed)) {
+            throw new IllegalArgumentException(errorMessage(packed, timeSlotString));
+        }
+        return packed;
+    }
+
+    private static boolean isError(long packed) {
+        return packed == INVALID_FORMAT || packed == INVALID_DATE;
+    }
+
+    private static String errorMessage(long error, String timeSlotString) {
+        if (error == INVALID_DATE) {
+            return String.format(MESSAGE_INVALID_DATE, timeSlotString.trim().substring(0, DATE_LENGTH));
+        }
+        return MESSAGE_CONSTRAINTS;
+    }
+
+    /**
+     * Returns the value of the {@code count} decimal digits starting at {@code index}, or -1 if any is not a digit.
+     */
+    private static int digits(String text, int index, int count) {
+        int result = 0;
+        for (int i = index; i < index + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minute of the day of the HHMM time starting at {@code index}, or -1 if it is not a valid time.
+     */
+    private static int minuteOfDay(String text, int index) {
+        int hour = digits(text, index, 2);
+        int minute = digits(text, index + 2, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        return hour * 60 + minute;
     }
 
     public LocalDate getDate() {
-        return date;
+        return LocalDate.ofEpochDay(epochDay);
     }
 
     public LocalTime getStartTime() {
-        return startTime;
+        return LocalTime.of(startMinute / 60, startMinute % 60);
     }
 
     public LocalTime getEndTime() {
-        return endTime;
+        int endMinute = startMinute + durationMinutes;
+        return LocalTime.of(endMinute / 60, endMinute % 60);
     }
 
     /**
-     * Calculates the next recurring timeslot (weekly) after the given time.
+     * Returns the number of minutes from the epoch to the start of this timeslot.
      */
-    public TimeSlot getNextOccurrence(LocalDateTime now) {
-        LocalDateTime currentStartDateTime = LocalDateTime.of(this.date, this.startTime);
-        Duration duration = Duration.between(this.startTime, this.endTime);
+    public long getStartEpochMinute() {
+        return (long) epochDay * MINUTES_PER_DAY + startMinute;
+    }
 
-        LocalDateTime newStartDateTime = currentStartDateTime;
+    /**
+     * Returns the number of minutes from the epoch to the end of this timeslot.
+     */
+    public long getEndEpochMinute() {
+        return getStartEpochMinute() + durationMinutes;
+    }
 
-        // This loop fast-forwards the timeslot until it's in the future
-        while (newStartDateTime.isBefore(now)) {
-            newStartDateTime = newStartDateTime.plusWeeks(1);
+    /**
+     * Returns the timeslot in the format "YYYY-MM-DD HHMM-HHMM".
+     */
+    public String getValue() {
+        if (value == null) {
+            value = getDate().format(DATE_FORMATTER) + " " + getStartTime().format(TIME_FORMATTER)
+                    + "-" + getEndTime().format(TIME_FORMATTER);
         }
+        return value;
+    }
 
-        LocalDate newDate = newStartDateTime.toLocalDate();
-        LocalTime newStartTime = newStartDateTime.toLocalTime();
-        LocalTime newEndTime = newStartDateTime.plus(duration).toLocalTime();
-
-        return new TimeSlot(newDate, newStartTime, newEndTime);
+    /**
+     * Calculates the next recurring timeslot (weekly) that starts at or after the given time.
+     */
+    public TimeSlot getNextOccurrence(LocalDateTime now) {
+        requireNonNull(now);
+        // A weekly series without an end date always has a next occurrence
+        return RecurringSeries.weekly(this).nextOccurrence(now).get();
     }
 
     /**
@@ -189,16 +298,33 @@ public class TimeSlot implements Comparable<TimeSlot> {
      * @return
      */
     public boolean overlaps(TimeSlot other) {
-        if (!this.date.equals(other.date)) {
+        if (this.epochDay != other.epochDay) {
             return false; // Different dates cannot overlap
         }
-        return this.endTime.isAfter(other.startTime) && this.startTime.isBefore(other.endTime);
+        return this.startMinute + this.durationMinutes > other.startMinute
+                && this.startMinute < other.startMinute + other.durationMinutes;
+    }
+
+    /**
+     * Returns true if the time {@code minuteOfDay} minutes after midnight is before {@code time}.
+     */
+    private static boolean isBefore(int minuteOfDay, LocalTime time) {
+        int seconds = minuteOfDay * SECONDS_PER_MINUTE;
+        int timeSeconds = time.toSecondOfDay();
+        return seconds < timeSeconds || (seconds == timeSeconds && time.getNano() > 0);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static boolean isWholeMinute(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0;
     }
 
     @Override
     public String toString() {
-        return date.format(DATE_FORMATTER) + " " + startTime.format(TIME_FORMATTER)
-                + "-" + endTime.format(TIME_FORMATTER);
+        return getValue();
     }
 
     @Override
@@ -212,27 +338,28 @@ public class TimeSlot implements Comparable<TimeSlot> {
         }
 
         TimeSlot otherSlot = (TimeSlot) other;
-        return date.equals(otherSlot.date)
-                && startTime.equals(otherSlot.startTime)
-                && endTime.equals(otherSlot.endTime);
+        return epochDay == otherSlot.epochDay
+                && startMinute == otherSlot.startMinute
+                && durationMinutes == otherSlot.durationMinutes;
     }
 
     @Override
     public int compareTo(TimeSlot other) {
-        if (!this.date.equals(other.date)) {
-            return this.date.compareTo(other.date);
+        if (this.epochDay != other.epochDay) {
+            return Integer.compare(this.epochDay, other.epochDay);
         }
-        if (!this.startTime.equals(other.startTime)) {
-            return this.startTime.compareTo(other.startTime);
+        if (this.startMinute != other.startMinute) {
+            return Integer.compare(this.startMinute, other.startMinute);
         }
-        return this.endTime.compareTo(other.endTime);
+        // Same start, so the shorter slot ends first
+        return Integer.compare(this.durationMinutes, other.durationMinutes);
     }
 
     @Override
     public int hashCode() {
-        int result = date.hashCode();
-        result = 31 * result + startTime.hashCode();
-        result = 31 * result + endTime.hashCode();
+        int result = epochDay;
+        result = 31 * result + startMinute;
+        result = 31 * result + durationMinutes;
         return result;
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -39,6 +42,35 @@ public class TimeslotRangePredicate implements Predicate<Person> {
         return checkDateRange(person.getTimeSlot()) && checkTimeRange(person.getTimeSlot());
     }
 
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate, visiting only the dates in range
+     * and, within each date, only the start times that can satisfy the time range.
+     */
+    public List<Person> findMatches(DateIndex index) {
+        List<Person> matches = new ArrayList<>();
+        if (startTime.isPresent() && endTime.isPresent() && startTime.get().isAfter(endTime.get())) {
+            return matches;
+        }
+        for (NavigableMap<LocalTime, List<Person>> day : index.getDays(startDate, endDate).values()) {
+            NavigableMap<LocalTime, List<Person>> starts = day;
+            if (startTime.isPresent()) {
+                starts = starts.tailMap(startTime.get(), true);
+            }
+            if (endTime.isPresent()) {
+                // A timeslot that ends by endTime must also start before it
+                starts = starts.headMap(endTime.get(), false);
+            }
+            for (List<Person> persons : starts.values()) {
+                for (Person person : persons) {
+                    if (checkTimeRange(person.getTimeSlot())) {
+                        matches.add(person);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
     /**
      * Checks if the timeslot's date is within the specified date range.
      */
@@ -1,6 +1,16 @@
 package seedu.address.model.person;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,6 +20,10 @@ import seedu.address.commons.util.ToStringBuilder;
  * the specified keywords. If both date and time are provided, both must match.
  */
 public class TimeslotStartTimeContainsKeywordsPredicate implements Predicate<Person> {
+    // STRICT so that keywords such as "2400" are rejected rather than resolved to another time, as in test()
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm")
+            .withResolverStyle(ResolverStyle.STRICT);
+
     private final List<String> keywords;
 
     public TimeslotStartTimeContainsKeywordsPredicate(List<String> keywords) {
@@ -45,6 +59,44 @@ public class TimeslotStartTimeContainsKeywordsPredicate implements Predicate<Per
         }
     }
 
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate by looking up the keyword dates
+     * and start times directly instead of testing every person.
+     */
+    public List<Person> findMatches(DateIndex index) {
+        Set<LocalDate> dates = new LinkedHashSet<>();
+        Set<LocalTime> times = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            try {
+                if (keyword.contains("-")) {
+                    dates.add(LocalDate.parse(keyword));
+                } else {
+                    times.add(LocalTime.parse(keyword.replace(":", ""), TIME_FORMATTER));
+                }
+            } catch (DateTimeParseException e) {
+                // Unparseable keywords can never match a timeslot
+            }
+        }
+        boolean hasDateKeyword = keywords.stream().anyMatch(k -> k.contains("-"));
+        boolean hasTimeKeyword = keywords.stream().anyMatch(k -> !k.contains("-"));
+
+        List<Person> matches = new ArrayList<>();
+        if (hasDateKeyword && hasTimeKeyword) {
+            for (LocalDate date : dates) {
+                NavigableMap<LocalTime, List<Person>> day = index.getDay(date);
+                times.stream().map(day::get).filter(persons -> persons != null).forEach(matches::addAll);
+            }
+        } else if (hasDateKeyword) {
+            dates.forEach(date -> index.getDay(date).values().forEach(matches::addAll));
+        } else {
+            for (NavigableMap<LocalTime, List<Person>> day : index.getDays(Optional.empty(), Optional.empty())
+                    .values()) {
+                times.stream().map(day::get).filter(persons -> persons != null).forEach(matches::addAll);
+            }
+        }
+        return matches;
+    }
+
     /**
      * Generates a human-readable string describing the types of keywords being searched for.
      * Assumes keywords are pre-validated by the parser.
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,51 +25,66 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The list is kept in chronological order of timeslots: additions,
+ * edits and removals work in place at the affected position so that observers only see the change itself
+ * rather than a re-sort of the whole list.
+ *
+ * Persons are also kept by {@link PersonId}, and no two persons in the list may share an id. A person given to
+ * {@code setPerson} or {@code remove} is found through its id and then located by a binary search on its timeslot,
+ * comparing only references. Positions are not stored by id, as every insertion would shift the later ones.
  *
  * @see Person#hasSameDetails(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    // Orders persons by timeslot, with persons without a timeslot last
+    private static final Comparator<Person> CHRONOLOGICAL_ORDER = (p1, p2) -> {
+        if (p1.getTimeSlot() == null && p2.getTimeSlot() == null) {
+            return 0;
+        } else if (p1.getTimeSlot() == null) {
+            return 1;
+        } else if (p2.getTimeSlot() == null) {
+            return -1;
+        } else {
+            return p1.getTimeSlot().compareTo(p2.getTimeSlot());
+        }
+    };
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Identities of every person in internalList, so that duplicate checks need not scan the list
+    private final Set<PersonIdentity> identities = new HashSet<>();
+    private final Map<PersonId, Person> personsById = new HashMap<>();
 
-    /**
-     * sorts the internal list by their timeslots chronologically
-     */
-    public void sortTimeSlot() {
-        this.internalList.sort((p1, p2) -> {
-            if (p1.getTimeSlot() == null && p2.getTimeSlot() == null) {
-                return 0;
-            } else if (p1.getTimeSlot() == null) {
-                return 1;
-            } else if (p2.getTimeSlot() == null) {
-                return -1;
-            } else {
-                return p1.getTimeSlot().compareTo(p2.getTimeSlot());
-            }
-        });
-    }
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameDetails);
+        return identities.contains(new PersonIdentity(toCheck));
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if it is in the list.
+     */
+    public Optional<Person> findById(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and its id must not be used by another person in the list.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        sortTimeSlot();
+        internalList.add(insertionIndex(toAdd), toAdd);
+        identities.add(new PersonIdentity(toAdd));
+        personsById.put(toAdd.getId(), toAdd);
     }
 
     /**
@@ -73,17 +95,29 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
+        Person stored = internalList.get(index);
         if (!target.hasSameDetails(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        if (!stored.getId().equals(editedPerson.getId()) && personsById.containsKey(editedPerson.getId())) {
+            throw new DuplicatePersonException();
+        }
 
-        internalList.set(index, editedPerson);
-        sortTimeSlot();
+        if (fitsAt(index, editedPerson)) {
+            internalList.set(index, editedPerson);
+        } else {
+            internalList.remove(index);
+            internalList.add(insertionIndex(editedPerson), editedPerson);
+        }
+        identities.remove(new PersonIdentity(target));
+        identities.add(new PersonIdentity(editedPerson));
+        personsById.remove(stored.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
     }
 
     /**
@@ -92,30 +126,59 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
-        sortTimeSlot();
+        Person removed = internalList.remove(index);
+        identities.remove(new PersonIdentity(toRemove));
+        personsById.remove(removed.getId());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        sortTimeSlot();
+        identities.clear();
+        identities.addAll(replacement.identities);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons or persons sharing an id.
+     * This is the bulk-load path: uniqueness is checked with one hash pass, the persons are sorted once
+     * (in parallel for large inputs) and observers are notified with a single change.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        int capacity = Math.max(16, (int) (persons.size() / .75f) + 1);
+        Set<PersonIdentity> newIdentities = new HashSet<>(capacity);
+        Map<PersonId, Person> newPersonsById = new HashMap<>(capacity);
+        for (Person person : persons) {
+            if (!newIdentities.add(new PersonIdentity(person))
+                    || newPersonsById.putIfAbsent(person.getId(), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
-        internalList.setAll(persons);
-        sortTimeSlot();
+        Person[] sortedPersons = persons.toArray(new Person[0]);
+        Arrays.parallelSort(sortedPersons, CHRONOLOGICAL_ORDER);
+        internalList.setAll(Arrays.asList(sortedPersons));
+        identities.clear();
+        identities.addAll(newIdentities);
+        personsById.clear();
+        personsById.putAll(newPersonsById);
+    }
+
+    /**
+     * Returns the position of {@code person} in this list, or -1 if it is not in this list.
+     * Only the persons sharing {@code person}'s timeslot are compared, so this takes logarithmic time
+     * unless many persons share it.
+     */
+    public int positionOf(Person person) {
+        requireNonNull(person);
+        return indexOf(person);
     }
 
     /**
@@ -156,16 +219,60 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position after every person that is not later than {@code person},
+     * so that persons sharing a timeslot keep the order in which they were added.
+     */
+    private int insertionIndex(Person person) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CHRONOLOGICAL_ORDER.compare(internalList.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     * If the person with the same id is equal to {@code person}, that person is looked for by reference.
+     * Otherwise, only the persons sharing {@code person}'s timeslot are compared with {@code Person#equals(Object)}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).hasSameDetails(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person person) {
+        Person sameId = personsById.get(person.getId());
+        Person match = sameId != null && sameId.equals(person) ? sameId : null;
+
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CHRONOLOGICAL_ORDER.compare(internalList.get(mid), person) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < internalList.size()
+                && CHRONOLOGICAL_ORDER.compare(internalList.get(i), person) == 0; i++) {
+            Person candidate = internalList.get(i);
+            if (match != null ? candidate == match : candidate.equals(person)) {
+                return i;
             }
         }
-        return true;
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code person} can replace the person at {@code index} without breaking chronological order.
+     */
+    private boolean fitsAt(int index, Person person) {
+        boolean afterPrevious = index == 0
+                || CHRONOLOGICAL_ORDER.compare(internalList.get(index - 1), person) <= 0;
+        boolean beforeNext = index == internalList.size() - 1
+                || CHRONOLOGICAL_ORDER.compare(person, internalList.get(index + 1)) <= 0;
+        return afterPrevious && beforeNext;
     }
 }
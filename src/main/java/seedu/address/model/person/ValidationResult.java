@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The outcome of checking some input: either the value built from it, or a message describing why it is invalid.
+ * Lets callers validate input without catching exceptions.
+ * Guarantees: immutable; exactly one of the value and the error message is present.
+ *
+ * @param <T> the type of the value built from valid input.
+ */
+public class ValidationResult<T> {
+
+    private final T value;
+    private final String errorMessage;
+
+    private ValidationResult(T value, String errorMessage) {
+        this.value = value;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Returns a result holding the valid {@code value}.
+     */
+    public static <T> ValidationResult<T> success(T value) {
+        requireNonNull(value);
+        return new ValidationResult<>(value, null);
+    }
+
+    /**
+     * Returns a result for invalid input, described by {@code errorMessage}.
+     */
+    public static <T> ValidationResult<T> failure(String errorMessage) {
+        requireNonNull(errorMessage);
+        return new ValidationResult<>(null, errorMessage);
+    }
+
+    public boolean isValid() {
+        return value != null;
+    }
+
+    /**
+     * Returns the value built from the input, or an empty Optional if the input is invalid.
+     */
+    public Optional<T> getValue() {
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Returns the reason the input is invalid, or an empty Optional if it is valid.
+     */
+    public Optional<String> getErrorMessage() {
+        return Optional.ofNullable(errorMessage);
+    }
+
+    /**
+     * Returns the value built from the input.
+     *
+     * @throws IllegalArgumentException with the error message if the input is invalid.
+     */
+    public T orElseThrow() {
+        if (value == null) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value built from the input.
+     *
+     * @throws X the exception made by {@code exceptionFactory} from the error message if the input is invalid.
+     */
+    public <X extends Throwable> T orElseThrow(Function<String, ? extends X> exceptionFactory) throws X {
+        requireNonNull(exceptionFactory);
+        if (value == null) {
+            throw exceptionFactory.apply(errorMessage);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ValidationResult)) {
+            return false;
+        }
+
+        ValidationResult<?> otherResult = (ValidationResult<?>) other;
+        return Objects.equals(value, otherResult.value)
+                && Objects.equals(errorMessage, otherResult.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, errorMessage);
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid: " + value : "invalid: " + errorMessage;
+    }
+}
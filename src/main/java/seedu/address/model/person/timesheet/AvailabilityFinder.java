@@ -0,0 +1,79 @@
+package seedu.address.model.person.timesheet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Finds the times in a week that are free for a group of persons, using their availability masks.
+ * Combining the group costs a few word-wise operations per person, whatever the size of the week grid.
+ */
+public class AvailabilityFinder {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private AvailabilityFinder() {}
+
+    /**
+     * Returns a mask of the bins in {@code week} that overlap any of {@code lessons}.
+     * Lessons outside the week are ignored.
+     */
+    public static AvailabilityMask bookedMask(WeekIndex week, Iterable<TimeSlot> lessons) {
+        requireAllNonNull(week, lessons);
+        AvailabilityMask booked = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        long weekStartMinute = week.getWeekStartMonday().toEpochDay() * MINUTES_PER_DAY;
+        for (TimeSlot lesson : lessons) {
+            long start = lesson.getStartEpochMinute() - weekStartMinute;
+            long end = lesson.getEndEpochMinute() - weekStartMinute;
+            int fromBin = (int) Math.max(0, Math.floorDiv(start, WeekIndex.MINUTES_PER_BIN));
+            int toBin = (int) Math.min(WeekIndex.BINS_PER_WEEK,
+                    Math.floorDiv(end + WeekIndex.MINUTES_PER_BIN - 1, WeekIndex.MINUTES_PER_BIN));
+            if (fromBin < toBin) {
+                booked.setRange(fromBin, toBin, true);
+            }
+        }
+        return booked;
+    }
+
+    /**
+     * Returns the maximal windows of {@code week}, in order, that last at least {@code minMinutes},
+     * fall within every mask in {@code availabilities} and do not overlap {@code booked}.
+     * With no availabilities, every unbooked bin counts as available.
+     */
+    public static List<FreeWindow> findCommonFreeWindows(WeekIndex week, Iterable<AvailabilityMask> availabilities,
+                                                         AvailabilityMask booked, int minMinutes) {
+        requireAllNonNull(week, availabilities, booked);
+        AvailabilityMask free = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        free.setRange(0, WeekIndex.BINS_PER_WEEK, true);
+        for (AvailabilityMask availability : availabilities) {
+            free.and(availability);
+        }
+        free.andNot(booked);
+        return toWindows(week, free, minMinutes);
+    }
+
+    /**
+     * Returns the maximal runs of available bins in {@code free} lasting at least {@code minMinutes}, in order.
+     */
+    public static List<FreeWindow> toWindows(WeekIndex week, AvailabilityMask free, int minMinutes) {
+        requireNonNull(week);
+        int minBins = Math.max(1, (minMinutes + WeekIndex.MINUTES_PER_BIN - 1) / WeekIndex.MINUTES_PER_BIN);
+        List<FreeWindow> windows = new ArrayList<>();
+        int start = free.nextSetRun(0, minBins);
+        while (start >= 0) {
+            int end = free.nextClearBit(start);
+            windows.add(new FreeWindow(week.toTime(start), endTime(week, end)));
+            start = end == free.size() ? -1 : free.nextSetRun(end, minBins);
+        }
+        return windows;
+    }
+
+    private static LocalDateTime endTime(WeekIndex week, int endBin) {
+        return week.startOfWeek().plusMinutes((long) endBin * WeekIndex.MINUTES_PER_BIN);
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.person.timesheet;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * Indexes one week of timesheets by bin: for each bin of the week, a bitmap of the persons available then.
+ * Each indexed person is given a small position, which is their bit in every bin's bitmap.
+ * Finding who is free for a range of bins is then an AND of one bitmap per bin, a word at a time,
+ * instead of a check of every timesheet.
+ */
+public class AvailabilityIndex {
+
+    private final BitSet[] personsByBin = new BitSet[WeekIndex.BINS_PER_WEEK];
+    private final Map<PersonId, Integer> positions = new HashMap<>();
+    private final List<PersonId> personAtPosition = new ArrayList<>();
+    private final BitSet freePositions = new BitSet();
+
+    /**
+     * Creates an index in which nobody is available.
+     */
+    public AvailabilityIndex() {
+        for (int bin = 0; bin < personsByBin.length; bin++) {
+            personsByBin[bin] = new BitSet();
+        }
+    }
+
+    /**
+     * Marks the person with {@code personId} as available or unavailable in bins [fromBin, toBin).
+     */
+    public void setRange(PersonId personId, int fromBin, int toBin, boolean available) {
+        requireNonNull(personId);
+        checkRange(fromBin, toBin);
+        if (!available && !positions.containsKey(personId)) {
+            return;
+        }
+        int position = positionOf(personId);
+        for (int bin = fromBin; bin < toBin; bin++) {
+            personsByBin[bin].set(position, available);
+        }
+    }
+
+    /**
+     * Replaces everything indexed for the person of {@code timesheet} with the bins available in it.
+     */
+    public void index(PersonTimesheet timesheet) {
+        requireNonNull(timesheet);
+        remove(timesheet.getPersonId());
+        AvailabilityMask mask = timesheet.getMask();
+        int start = mask.nextSetBit(0);
+        while (start >= 0) {
+            int end = mask.nextClearBit(start);
+            setRange(timesheet.getPersonId(), start, end, true);
+            start = end == mask.size() ? -1 : mask.nextSetBit(end);
+        }
+    }
+
+    /**
+     * Removes the person with {@code personId} from every bin, freeing their position for reuse.
+     */
+    public void remove(PersonId personId) {
+        requireNonNull(personId);
+        Integer position = positions.remove(personId);
+        if (position == null) {
+            return;
+        }
+        for (BitSet persons : personsByBin) {
+            persons.clear(position);
+        }
+        personAtPosition.set(position, null);
+        freePositions.set(position);
+    }
+
+    /**
+     * Returns the ids of the persons available in every bin of [fromBin, toBin), which must not be empty.
+     * They are in the order of their positions, which is not meaningful outside this index.
+     */
+    public List<PersonId> findAvailable(int fromBin, int toBin) {
+        checkRange(fromBin, toBin);
+        if (fromBin == toBin) {
+            throw new IllegalArgumentException("Empty range");
+        }
+        BitSet available = (BitSet) personsByBin[fromBin].clone();
+        for (int bin = fromBin + 1; bin < toBin && !available.isEmpty(); bin++) {
+            available.and(personsByBin[bin]);
+        }
+        List<PersonId> personIds = new ArrayList<>(available.cardinality());
+        for (int position = available.nextSetBit(0); position >= 0; position = available.nextSetBit(position + 1)) {
+            personIds.add(personAtPosition.get(position));
+        }
+        return personIds;
+    }
+
+    /**
+     * Returns true if nobody is indexed.
+     */
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    /**
+     * Returns the position of the person with {@code personId}, giving them one if they have none.
+     */
+    private int positionOf(PersonId personId) {
+        Integer position = positions.get(personId);
+        if (position != null) {
+            return position;
+        }
+        int newPosition = freePositions.nextSetBit(0);
+        if (newPosition >= 0) {
+            freePositions.clear(newPosition);
+            personAtPosition.set(newPosition, personId);
+        } else {
+            newPosition = personAtPosition.size();
+            personAtPosition.add(personId);
+        }
+        positions.put(personId, newPosition);
+        return newPosition;
+    }
+
+    private static void checkRange(int fromBin, int toBin) {
+        if (fromBin < 0 || toBin > WeekIndex.BINS_PER_WEEK || fromBin > toBin) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person.timesheet;
 
-import java.util.BitSet;
+import java.util.Arrays;
+import java.util.Base64;
 
 /**
  * Represents a compact weekly availability grid using bits.
@@ -10,11 +11,21 @@ import java.util.BitSet;
  * This mask is lightweight, memory efficient, and optimized for fast
  * availability operations (bit operation to find common availability
  * It is serialisable to/from a binary string, which makes it easy to store.
+ *
+ * The bits are packed 64 to a {@code long}, with slot {@code i} at bit {@code i % 64} of word {@code i / 64}.
+ * Bulk operations work a whole word at a time and never allocate; the {@code ...Into} variants write their
+ * result into a given mask so that one scratch mask can be reused across many operations.
+ * Bits past {@code size} in the last word are always 0.
  */
 
 public final class AvailabilityMask {
 
-    private final BitSet bits; // bit 1 = available
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final long ALL_SET = -1L;
+    private static final String PACKED_PREFIX = "v1:";
+    private static final char PACKED_SEPARATOR = ':';
+
+    private final long[] words; // bit 1 = available
     private final int size; // total number of time slots (e.g. 672 for 15-minute bins)
 
     /**
@@ -23,8 +34,11 @@ public final class AvailabilityMask {
      * @param size number of time slots in the mask
      */
     public AvailabilityMask(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative: " + size);
+        }
         this.size = size;
-        this.bits = new BitSet(size);
+        this.words = new long[(size + BITS_PER_WORD - 1) / BITS_PER_WORD];
     }
 
     /**
@@ -34,6 +48,15 @@ public final class AvailabilityMask {
         return new AvailabilityMask(size);
     }
 
+    /**
+     * Returns a copy of this mask.
+     */
+    public AvailabilityMask copy() {
+        AvailabilityMask copy = new AvailabilityMask(size);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
     /**
      * @return total number of slots in this mask
      */
@@ -50,9 +73,9 @@ public final class AvailabilityMask {
     public void set(int index, boolean available) {
         check(index);
         if (available) {
-            bits.set(index);
+            words[index / BITS_PER_WORD] |= 1L << index;
         } else {
-            bits.clear(index);
+            words[index / BITS_PER_WORD] &= ~(1L << index);
         }
     }
 
@@ -64,29 +87,202 @@ public final class AvailabilityMask {
      * @param available true = available, false = unavailable
      */
     public void setRange(int fromInclusive, int toExclusive, boolean available) {
-        if (fromInclusive < 0 || toExclusive > size || fromInclusive > toExclusive) {
-            throw new IllegalArgumentException("Invalid range");
+        checkRange(fromInclusive, toExclusive);
+        if (fromInclusive == toExclusive) {
+            return;
         }
-        if (available) {
-            bits.set(fromInclusive, toExclusive);
-        } else {
-            bits.clear(fromInclusive, toExclusive);
+        int firstWord = fromInclusive / BITS_PER_WORD;
+        int lastWord = (toExclusive - 1) / BITS_PER_WORD;
+        for (int w = firstWord; w <= lastWord; w++) {
+            long mask = wordMask(w, fromInclusive, toExclusive);
+            if (available) {
+                words[w] |= mask;
+            } else {
+                words[w] &= ~mask;
+            }
         }
     }
 
+    /**
+     * Marks every slot as unavailable.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
     /**
      * Returns whether a specific slot is available.
      */
     public boolean get(int index) {
         check(index);
-        return bits.get(index);
+        return (words[index / BITS_PER_WORD] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns true if every slot in [fromInclusive, toExclusive) is available.
+     * An empty range is always available.
+     */
+    public boolean containsRange(int fromInclusive, int toExclusive) {
+        checkRange(fromInclusive, toExclusive);
+        if (fromInclusive == toExclusive) {
+            return true;
+        }
+        int firstWord = fromInclusive / BITS_PER_WORD;
+        int lastWord = (toExclusive - 1) / BITS_PER_WORD;
+        for (int w = firstWord; w <= lastWord; w++) {
+            long mask = wordMask(w, fromInclusive, toExclusive);
+            if ((words[w] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * @return number of available slots (bit count)
      */
     public int cardinality() {
-        return bits.cardinality();
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first available slot at or after {@code fromIndex}, or -1 if there is none.
+     */
+    public int nextSetBit(int fromIndex) {
+        checkFrom(fromIndex);
+        if (fromIndex == size) {
+            return -1;
+        }
+        int w = fromIndex / BITS_PER_WORD;
+        long word = words[w] & (ALL_SET << fromIndex);
+        while (word == 0) {
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+        return w * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns the first unavailable slot at or after {@code fromIndex}, or {@code size} if there is none.
+     */
+    public int nextClearBit(int fromIndex) {
+        checkFrom(fromIndex);
+        if (fromIndex == size) {
+            return size;
+        }
+        int w = fromIndex / BITS_PER_WORD;
+        long word = ~words[w] & (ALL_SET << fromIndex);
+        while (word == 0) {
+            if (++w == words.length) {
+                return size;
+            }
+            word = ~words[w];
+        }
+        return Math.min(size, w * BITS_PER_WORD + Long.numberOfTrailingZeros(word));
+    }
+
+    /**
+     * Returns the start of the first run of at least {@code minLength} consecutive available slots
+     * that starts at or after {@code fromIndex}, or -1 if there is none.
+     * The run ends at {@code nextClearBit(start)}.
+     */
+    public int nextSetRun(int fromIndex, int minLength) {
+        if (minLength < 1) {
+            throw new IllegalArgumentException("Run length must be positive: " + minLength);
+        }
+        int start = nextSetBit(fromIndex);
+        while (start >= 0) {
+            int end = nextClearBit(start);
+            if (end - start >= minLength) {
+                return start;
+            }
+            start = end == size ? -1 : nextSetBit(end);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if some slot is available in both this mask and {@code other}.
+     */
+    public boolean intersects(AvailabilityMask other) {
+        checkSameSize(other);
+        for (int w = 0; w < words.length; w++) {
+            if ((words[w] & other.words[w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keeps only the slots that are also available in {@code other}.
+     */
+    public void and(AvailabilityMask other) {
+        andInto(other, this);
+    }
+
+    /**
+     * Adds the slots that are available in {@code other}.
+     */
+    public void or(AvailabilityMask other) {
+        orInto(other, this);
+    }
+
+    /**
+     * Removes the slots that are available in {@code other}.
+     */
+    public void andNot(AvailabilityMask other) {
+        andNotInto(other, this);
+    }
+
+    /**
+     * Sets {@code destination} to the slots available in both this mask and {@code other}.
+     * {@code destination} may be this mask or {@code other}.
+     */
+    public void andInto(AvailabilityMask other, AvailabilityMask destination) {
+        checkSameSize(other);
+        checkSameSize(destination);
+        for (int w = 0; w < words.length; w++) {
+            destination.words[w] = words[w] & other.words[w];
+        }
+    }
+
+    /**
+     * Sets {@code destination} to the slots available in this mask or {@code other}.
+     * {@code destination} may be this mask or {@code other}.
+     */
+    public void orInto(AvailabilityMask other, AvailabilityMask destination) {
+        checkSameSize(other);
+        checkSameSize(destination);
+        for (int w = 0; w < words.length; w++) {
+            destination.words[w] = words[w] | other.words[w];
+        }
+    }
+
+    /**
+     * Sets {@code destination} to the slots available in this mask but not in {@code other}.
+     * {@code destination} may be this mask or {@code other}.
+     */
+    public void andNotInto(AvailabilityMask other, AvailabilityMask destination) {
+        checkSameSize(other);
+        checkSameSize(destination);
+        for (int w = 0; w < words.length; w++) {
+            destination.words[w] = words[w] & ~other.words[w];
+        }
+    }
+
+    /**
+     * Sets this mask to the same slots as {@code source}.
+     */
+    public void copyFrom(AvailabilityMask source) {
+        checkSameSize(source);
+        System.arraycopy(source.words, 0, words, 0, words.length);
     }
 
     /**
@@ -96,7 +292,7 @@ public final class AvailabilityMask {
     public String toBinaryString() {
         StringBuilder sb = new StringBuilder(size);
         for (int i = 0; i < size; i++) {
-            sb.append(bits.get(i) ? '1' : '0');
+            sb.append(get(i) ? '1' : '0');
         }
         return sb.toString();
     }
@@ -109,12 +305,114 @@ public final class AvailabilityMask {
         AvailabilityMask m = new AvailabilityMask(s.length());
         for (int i = 0; i < s.length(); i++) {
             if (s.charAt(i) == '1') {
-                m.bits.set(i);
+                m.words[i / BITS_PER_WORD] |= 1L << i;
             }
         }
         return m;
     }
 
+    /**
+     * Serializes the mask into a short string: a version tag, the size, then the bytes of
+     * {@link #toByteArray()} in Base64.
+     * Example: "v1:336:AAAA..." (63 characters for a 336-slot week, against 336 for {@link #toBinaryString()})
+     */
+    public String toPackedString() {
+        return PACKED_PREFIX + size + PACKED_SEPARATOR
+                + Base64.getEncoder().withoutPadding().encodeToString(toByteArray());
+    }
+
+    /**
+     * Restores a mask from either a packed string from {@link #toPackedString()} or a binary string from
+     * {@link #toBinaryString()}, telling them apart by the version tag.
+     *
+     * @throws IllegalArgumentException if {@code s} is in neither form.
+     */
+    public static AvailabilityMask parse(String s) {
+        if (s.startsWith(PACKED_PREFIX)) {
+            int sizeEnd = s.indexOf(PACKED_SEPARATOR, PACKED_PREFIX.length());
+            if (sizeEnd < 0) {
+                throw new IllegalArgumentException("Invalid availability mask: " + s);
+            }
+            try {
+                int size = Integer.parseInt(s.substring(PACKED_PREFIX.length(), sizeEnd));
+                return fromByteArray(Base64.getDecoder().decode(s.substring(sizeEnd + 1)), size);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid availability mask: " + s, e);
+            }
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) != '0' && s.charAt(i) != '1') {
+                throw new IllegalArgumentException("Invalid availability mask: " + s);
+            }
+        }
+        return fromBinaryString(s);
+    }
+
+    /**
+     * Serializes the mask into {@code ceil(size / 8)} bytes, slot {@code i} at bit {@code i % 8} of byte
+     * {@code i / 8}. This is the little-endian byte order of the backing words.
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[(size + Byte.SIZE - 1) / Byte.SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i / Long.BYTES] >>> (Byte.SIZE * (i % Long.BYTES)));
+        }
+        return bytes;
+    }
+
+    /**
+     * Restores a mask of {@code size} slots from bytes produced by {@link #toByteArray()}.
+     */
+    public static AvailabilityMask fromByteArray(byte[] bytes, int size) {
+        if (bytes.length != (size + Byte.SIZE - 1) / Byte.SIZE) {
+            throw new IllegalArgumentException("Expected " + (size + Byte.SIZE - 1) / Byte.SIZE
+                    + " bytes for " + size + " slots but got " + bytes.length);
+        }
+        AvailabilityMask m = new AvailabilityMask(size);
+        for (int i = 0; i < bytes.length; i++) {
+            m.words[i / Long.BYTES] |= (bytes[i] & 0xFFL) << (Byte.SIZE * (i % Long.BYTES));
+        }
+        if (size % BITS_PER_WORD != 0) {
+            m.words[m.words.length - 1] &= ALL_SET >>> (BITS_PER_WORD - size % BITS_PER_WORD);
+        }
+        return m;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AvailabilityMask)) {
+            return false;
+        }
+
+        AvailabilityMask otherMask = (AvailabilityMask) other;
+        return size == otherMask.size && Arrays.equals(words, otherMask.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(words);
+    }
+
+    /**
+     * Returns the bits of word {@code w} that fall within [fromInclusive, toExclusive).
+     */
+    private static long wordMask(int w, int fromInclusive, int toExclusive) {
+        int wordStart = w * BITS_PER_WORD;
+        long mask = ALL_SET;
+        if (fromInclusive > wordStart) {
+            mask &= ALL_SET << fromInclusive;
+        }
+        if (toExclusive < wordStart + BITS_PER_WORD) {
+            mask &= ALL_SET >>> (BITS_PER_WORD - toExclusive % BITS_PER_WORD);
+        }
+        return mask;
+    }
+
     /**
      * Ensures index is within bounds.
      */
@@ -123,7 +421,22 @@ public final class AvailabilityMask {
             throw new IllegalArgumentException("Index out of range: " + index);
         }
     }
-}
 
+    private void checkFrom(int fromIndex) {
+        if (fromIndex < 0 || fromIndex > size) {
+            throw new IllegalArgumentException("Index out of range: " + fromIndex);
+        }
+    }
 
+    private void checkRange(int fromInclusive, int toExclusive) {
+        if (fromInclusive < 0 || toExclusive > size || fromInclusive > toExclusive) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+    }
 
+    private void checkSameSize(AvailabilityMask other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Mask sizes differ: " + size + " and " + other.size);
+        }
+    }
+}
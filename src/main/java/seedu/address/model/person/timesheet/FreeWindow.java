@@ -0,0 +1,77 @@
+package seedu.address.model.person.timesheet;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Represents a window of free time from a start to an end date-time, which may span several days.
+ * Guarantees: immutable; the end is after the start.
+ */
+public final class FreeWindow {
+
+    public static final String MESSAGE_CONSTRAINTS = "A free window must end after it starts.";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public FreeWindow(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(end.isAfter(start), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public long getDurationMinutes() {
+        return Duration.between(start, end).toMinutes();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeWindow)) {
+            return false;
+        }
+
+        FreeWindow otherWindow = (FreeWindow) other;
+        return start.equals(otherWindow.start) && end.equals(otherWindow.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start.hashCode() + end.hashCode();
+    }
+
+    /**
+     * Formats the window like a timeslot, "YYYY-MM-DD HHMM-HHMM", or as "YYYY-MM-DD HHMM to YYYY-MM-DD HHMM"
+     * if it does not end on the day it starts.
+     */
+    @Override
+    public String toString() {
+        if (end.toLocalDate().equals(start.toLocalDate())) {
+            return start.format(DATE_TIME_FORMATTER) + "-" + end.format(TIME_FORMATTER);
+        }
+        return start.format(DATE_TIME_FORMATTER) + " to " + end.format(DATE_TIME_FORMATTER);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person.timesheet;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * Represents a suggested weekly lesson time: a day of the week and a time of day, with how many weeks of
+ * the term it is free in and the score it was ranked by.
+ * Guarantees: immutable; the lesson is free in at least one week.
+ */
+public final class LessonPlacement {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
+    private final DayOfWeek day;
+    private final LocalTime start;
+    private final LocalTime end;
+    private final int freeWeeks;
+    private final int totalWeeks;
+    private final int score;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public LessonPlacement(DayOfWeek day, LocalTime start, LocalTime end, int freeWeeks, int totalWeeks,
+                           int score) {
+        requireAllNonNull(day, start, end);
+        checkArgument(freeWeeks > 0 && freeWeeks <= totalWeeks,
+                "Free weeks must be from 1 to " + totalWeeks + ": " + freeWeeks);
+        this.day = day;
+        this.start = start;
+        this.end = end;
+        this.freeWeeks = freeWeeks;
+        this.totalWeeks = totalWeeks;
+        this.score = score;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    public int getFreeWeeks() {
+        return freeWeeks;
+    }
+
+    public int getTotalWeeks() {
+        return totalWeeks;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonPlacement)) {
+            return false;
+        }
+
+        LessonPlacement otherPlacement = (LessonPlacement) other;
+        return day == otherPlacement.day
+                && start.equals(otherPlacement.start)
+                && end.equals(otherPlacement.end)
+                && freeWeeks == otherPlacement.freeWeeks
+                && totalWeeks == otherPlacement.totalWeeks
+                && score == otherPlacement.score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, start, end, freeWeeks, totalWeeks, score);
+    }
+
+    @Override
+    public String toString() {
+        return day + " " + start.format(TIME_FORMATTER) + "-" + end.format(TIME_FORMATTER)
+                + " (free in " + freeWeeks + " of " + totalWeeks + " weeks)";
+    }
+}
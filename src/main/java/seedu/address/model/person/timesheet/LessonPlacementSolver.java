@@ -0,0 +1,187 @@
+package seedu.address.model.person.timesheet;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks the times of the week at which a weekly lesson of a given length could be placed, over a term of weeks.
+ * Each week of the term is added as the student's availability and the bins already booked, and every start bin
+ * is scored as follows:
+ * <ul>
+ *   <li>fit: up to {@link #FIT_POINTS}, in proportion to the weeks in which the student is available for the
+ *   whole lesson and nothing is booked;</li>
+ *   <li>gaps: minus {@link #GAP_PENALTY_PER_BIN} for each idle bin, on average over those weeks, between the lesson
+ *   and the nearest booked lesson on the same day, or a whole day's worth of bins if there is none;</li>
+ *   <li>preferred hours: minus {@link #PREFERENCE_PENALTY_PER_BIN} for each bin of the lesson outside them.</li>
+ * </ul>
+ * Adding a week costs a pass over its bins, and ranking keeps only the best placements in a bounded heap,
+ * so the work does not grow with the number of lessons or persons.
+ */
+public class LessonPlacementSolver {
+
+    public static final int FIT_POINTS = 1000;
+    public static final int GAP_PENALTY_PER_BIN = 5;
+    public static final int PREFERENCE_PENALTY_PER_BIN = 50;
+
+    /** Orders placements from the worst to the best, with later times worse among equal scores. */
+    private static final Comparator<LessonPlacement> WORST_FIRST = Comparator
+            .comparingInt(LessonPlacement::getScore)
+            .thenComparing(LessonPlacement::getDay, Comparator.reverseOrder())
+            .thenComparing(LessonPlacement::getStart, Comparator.reverseOrder());
+
+    private final int minutes;
+    private final int lengthInBins;
+    private final int preferredFromBin;
+    private final int preferredToBin;
+    private final int[] freeWeeks = new int[WeekIndex.BINS_PER_WEEK];
+    private final long[] gapBins = new long[WeekIndex.BINS_PER_WEEK];
+    private final AvailabilityMask free = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+    private final int[] previousBookedEnd = new int[WeekIndex.BINS_PER_WEEK];
+    private final int[] nextBookedStart = new int[WeekIndex.BINS_PER_WEEK];
+    private int weekCount;
+
+    /**
+     * Creates a solver for a lesson of {@code minutes}, preferably held from {@code preferredStart}
+     * to {@code preferredEnd} on its day. Without them, every time of day is preferred.
+     */
+    public LessonPlacementSolver(int minutes, Optional<LocalTime> preferredStart, Optional<LocalTime> preferredEnd) {
+        requireAllNonNull(preferredStart, preferredEnd);
+        checkArgument(minutes > 0, "Duration must be positive: " + minutes);
+        this.minutes = minutes;
+        this.lengthInBins = ceilDiv(minutes, WeekIndex.MINUTES_PER_BIN);
+        this.preferredFromBin = preferredStart.map(time -> toMinuteOfDay(time) / WeekIndex.MINUTES_PER_BIN)
+                .orElse(0);
+        this.preferredToBin = preferredEnd.map(time -> ceilDiv(toMinuteOfDay(time), WeekIndex.MINUTES_PER_BIN))
+                .orElse(WeekIndex.BINS_PER_DAY);
+        checkArgument(preferredFromBin < preferredToBin, "Preferred hours must not be empty");
+    }
+
+    /**
+     * Adds a week of the term in which the student is {@code available} and the bins in {@code booked}
+     * are taken by other lessons.
+     */
+    public void addWeek(AvailabilityMask available, AvailabilityMask booked) {
+        requireAllNonNull(available, booked);
+        available.andNotInto(booked, free);
+        findBookedNeighbours(booked);
+        weekCount++;
+        int start = free.nextSetRun(0, lengthInBins);
+        while (start >= 0) {
+            int end = free.nextClearBit(start);
+            for (int bin = start; bin + lengthInBins <= end; bin++) {
+                if (bin % WeekIndex.BINS_PER_DAY + lengthInBins <= WeekIndex.BINS_PER_DAY) {
+                    freeWeeks[bin]++;
+                    gapBins[bin] += idleGap(bin);
+                }
+            }
+            start = end == free.size() ? -1 : free.nextSetRun(end, lengthInBins);
+        }
+    }
+
+    /**
+     * Returns the number of weeks added so far.
+     */
+    public int getWeekCount() {
+        return weekCount;
+    }
+
+    /**
+     * Returns the {@code limit} best placements, best first, among those free in at least one week added.
+     */
+    public List<LessonPlacement> findBest(int limit) {
+        checkArgument(limit > 0, "Limit must be positive: " + limit);
+        PriorityQueue<LessonPlacement> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        for (int bin = 0; bin < WeekIndex.BINS_PER_WEEK; bin++) {
+            if (freeWeeks[bin] == 0) {
+                continue;
+            }
+            int score = score(bin);
+            // bins are visited in time order, so a later bin with an equal score never displaces an earlier one
+            if (best.size() < limit || score > best.peek().getScore()) {
+                best.add(toPlacement(bin, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        List<LessonPlacement> placements = new ArrayList<>(best);
+        placements.sort(WORST_FIRST.reversed());
+        return placements;
+    }
+
+    private int score(int bin) {
+        long averageGap = gapBins[bin] / freeWeeks[bin];
+        return (int) ((long) FIT_POINTS * freeWeeks[bin] / weekCount
+                - GAP_PENALTY_PER_BIN * averageGap
+                - PREFERENCE_PENALTY_PER_BIN * binsOutsidePreferredHours(bin));
+    }
+
+    private int binsOutsidePreferredHours(int bin) {
+        int from = bin % WeekIndex.BINS_PER_DAY;
+        int to = from + lengthInBins;
+        int overlap = Math.max(0, Math.min(to, preferredToBin) - Math.max(from, preferredFromBin));
+        return lengthInBins - overlap;
+    }
+
+    private LessonPlacement toPlacement(int bin, int score) {
+        DayOfWeek day = DayOfWeek.MONDAY.plus(bin / WeekIndex.BINS_PER_DAY);
+        LocalTime start = LocalTime.MIDNIGHT.plusMinutes(
+                (long) (bin % WeekIndex.BINS_PER_DAY) * WeekIndex.MINUTES_PER_BIN);
+        return new LessonPlacement(day, start, start.plusMinutes(minutes), freeWeeks[bin], weekCount, score);
+    }
+
+    /**
+     * Records, for each bin, where the last booked run before it on the same day ends and where the next
+     * booked run at or after it on the same day starts, or -1 if there is none.
+     */
+    private void findBookedNeighbours(AvailabilityMask booked) {
+        for (int dayStart = 0; dayStart < WeekIndex.BINS_PER_WEEK; dayStart += WeekIndex.BINS_PER_DAY) {
+            int dayEnd = dayStart + WeekIndex.BINS_PER_DAY;
+            int previousEnd = -1;
+            for (int bin = dayStart; bin < dayEnd; bin++) {
+                previousBookedEnd[bin] = previousEnd;
+                if (booked.get(bin)) {
+                    previousEnd = bin + 1;
+                }
+            }
+            int nextStart = -1;
+            for (int bin = dayEnd - 1; bin >= dayStart; bin--) {
+                if (booked.get(bin)) {
+                    nextStart = bin;
+                }
+                nextBookedStart[bin] = nextStart;
+            }
+        }
+    }
+
+    /**
+     * Returns the idle bins between a lesson starting at the free {@code bin} and the nearest booked lesson
+     * on the same day, or a day's worth of bins if nothing else is booked that day.
+     */
+    private int idleGap(int bin) {
+        int gap = WeekIndex.BINS_PER_DAY;
+        if (previousBookedEnd[bin] >= 0) {
+            gap = bin - previousBookedEnd[bin];
+        }
+        if (nextBookedStart[bin] >= 0) {
+            gap = Math.min(gap, nextBookedStart[bin] - (bin + lengthInBins));
+        }
+        return gap;
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+import seedu.address.model.person.PersonId;
+
 /**
  * Represents one person's weekly availability timesheet.
  * The week is divided into fixed time slots (e.g. 30 minutes each),
@@ -14,7 +16,7 @@ import java.util.Objects;
  */
 public final class PersonTimesheet {
 
-    private final String personId; // Reference to a Person. Later need to add in unique hashcode for each person
+    private final PersonId personId; // The stable id of the Person this timesheet belongs to
     private final WeekIndex weekIndex; // Identifies which week this timesheet belongs to
     private final AvailabilityMask mask; // 1-bit availability grid for the week
 
@@ -22,7 +24,7 @@ public final class PersonTimesheet {
      * Creates an empty timesheet for the given person and week.
      * All time slots are initially marked unavailable.
      */
-    public PersonTimesheet(String personId, WeekIndex weekIndex) {
+    public PersonTimesheet(PersonId personId, WeekIndex weekIndex) {
         this.personId = Objects.requireNonNull(personId);
         this.weekIndex = Objects.requireNonNull(weekIndex);
         this.mask = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
@@ -31,7 +33,7 @@ public final class PersonTimesheet {
     /**
      * Creates a timesheet with an existing mask (used by Storage during loading).
      */
-    public PersonTimesheet(String personId, WeekIndex weekIndex, AvailabilityMask mask) {
+    public PersonTimesheet(PersonId personId, WeekIndex weekIndex, AvailabilityMask mask) {
         this.personId = Objects.requireNonNull(personId);
         this.weekIndex = Objects.requireNonNull(weekIndex);
         this.mask = Objects.requireNonNull(mask);
@@ -45,7 +47,7 @@ public final class PersonTimesheet {
      * Factory method: restores a timesheet from binary availability string.
      * This assumes weekStartMonday + maskBinary is stored externally.
      */
-    public static PersonTimesheet fromBinary(String personId, LocalDate weekStartMonday, String binary) {
+    public static PersonTimesheet fromBinary(PersonId personId, LocalDate weekStartMonday, String binary) {
         WeekIndex wi = new WeekIndex(weekStartMonday);
         AvailabilityMask m = AvailabilityMask.fromBinaryString(binary);
         return new PersonTimesheet(personId, wi, m);
@@ -65,7 +67,7 @@ public final class PersonTimesheet {
      */
     public void markAvailable(LocalDateTime start, LocalDateTime end) {
         int a = weekIndex.toIndex(start);
-        int b = weekIndex.toIndex(end);
+        int b = weekIndex.toEndIndex(end);
         mask.setRange(a, b, true);
     }
 
@@ -76,7 +78,7 @@ public final class PersonTimesheet {
      */
     public void markUnavailable(LocalDateTime start, LocalDateTime end) {
         int a = weekIndex.toIndex(start);
-        int b = weekIndex.toIndex(end);
+        int b = weekIndex.toEndIndex(end);
         mask.setRange(a, b, false);
     }
 
@@ -85,20 +87,15 @@ public final class PersonTimesheet {
      */
     public boolean isAvailable(LocalDateTime start, LocalDateTime end) {
         int a = weekIndex.toIndex(start);
-        int b = weekIndex.toIndex(end);
-        for (int i = a; i < b; i++) {
-            if (!mask.get(i)) {
-                return false;
-            }
-        }
-        return true;
+        int b = weekIndex.toEndIndex(end);
+        return a <= b && mask.containsRange(a, b);
     }
 
     // ------------------------------------------------------------
     // Getters
     // ------------------------------------------------------------
 
-    public String getPersonId() {
+    public PersonId getPersonId() {
         return personId;
     }
 
@@ -119,26 +116,24 @@ public final class PersonTimesheet {
     // ------------------------------------------------------------
 
     /**
-     * Encodes this timesheet as a compact string "weekStart|binaryMask".
-     * Example: "2025-10-13|000011110000..."
+     * Encodes this timesheet as a compact string "weekStart|packedMask",
+     * using {@link AvailabilityMask#toPackedString()}.
+     * Example: "2025-10-13|v1:336:AAAA..."
      */
     public String toEncodedString() {
-        return weekIndex.getWeekStartMonday().toString() + "|" + mask.toBinaryString();
+        return weekIndex.getWeekStartMonday().toString() + "|" + mask.toPackedString();
     }
 
     /**
      * Decodes a compact encoded timesheet string back into a PersonTimesheet.
+     * Both packed masks and the older "weekStart|binaryMask" strings are accepted.
      */
-    public static PersonTimesheet fromEncodedString(String personId, String encoded) {
+    public static PersonTimesheet fromEncodedString(PersonId personId, String encoded) {
         String[] parts = encoded.split("\\|", 2);
         if (parts.length != 2) {
             throw new IllegalArgumentException("Invalid encoded timesheet: " + encoded);
         }
         LocalDate weekStart = LocalDate.parse(parts[0]);
-        String binary = parts[1];
-        return fromBinary(personId, weekStart, binary);
+        return new PersonTimesheet(personId, new WeekIndex(weekStart), AvailabilityMask.parse(parts[1]));
     }
 }
-
-
-
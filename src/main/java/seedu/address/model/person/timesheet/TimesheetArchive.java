@@ -0,0 +1,381 @@
+package seedu.address.model.person.timesheet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * Holds the weekly availability of many persons over many weeks in compressed form.
+ * The weeks of each person are kept as one chain of bytes, in date order. Each week in the chain is stored
+ * as its 42 bytes XORed with the week before, then run-length encoded, so a week that repeats the previous one
+ * costs only a few bytes. Reading a week decodes the chain up to that week.
+ *
+ * A chain is: the number of weeks, then for each week the number of weeks since the previous one
+ * (since the epoch for the first), followed by the encoded difference. Numbers are variable-length.
+ * The difference is a sequence of runs, each starting with a header byte: {@code 0x80 | (n - 1)} for
+ * {@code n} zero bytes, or {@code n - 1} followed by {@code n} literal bytes.
+ *
+ * Weeks later than every archived week of a person are appended to the chain without decoding it, using the
+ * last week of the chain, which is kept for each person once known.
+ */
+public class TimesheetArchive {
+
+    public static final int BYTES_PER_WEEK = (WeekIndex.BINS_PER_WEEK + Byte.SIZE - 1) / Byte.SIZE;
+    public static final String MESSAGE_CORRUPT_CHAIN = "Timesheet data is corrupted.";
+
+    private static final long EPOCH_DAY_OF_FIRST_MONDAY = 4; // 1970-01-05
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MAX_RUN = 0x80;
+    private static final int ZERO_RUN_FLAG = 0x80;
+
+    private final Map<PersonId, byte[]> chains = new HashMap<>();
+    private final Map<PersonId, Tail> tails = new HashMap<>();
+
+    /**
+     * Returns the availability of the person with {@code personId} in the week starting {@code monday},
+     * if it has been archived.
+     */
+    public Optional<AvailabilityMask> get(PersonId personId, LocalDate monday) {
+        requireAllNonNull(personId, monday);
+        byte[] chain = chains.get(personId);
+        if (chain == null) {
+            return Optional.empty();
+        }
+        ChainReader reader = new ChainReader(chain);
+        byte[] week = new byte[BYTES_PER_WEEK];
+        long targetWeek = toEpochWeek(monday);
+        long epochWeek = 0;
+        for (int remaining = reader.readWeekCount(); remaining > 0; remaining--) {
+            epochWeek += reader.readVarLong();
+            if (epochWeek > targetWeek) {
+                break;
+            }
+            reader.readDifference(week);
+            if (epochWeek == targetWeek) {
+                return Optional.of(AvailabilityMask.fromByteArray(week, WeekIndex.BINS_PER_WEEK));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns every archived week of the person with {@code personId}, keyed by the Monday starting it.
+     */
+    public NavigableMap<LocalDate, AvailabilityMask> getWeeks(PersonId personId) {
+        requireNonNull(personId);
+        byte[] chain = chains.get(personId);
+        return chain == null ? new TreeMap<>() : decode(chain);
+    }
+
+    /**
+     * Archives {@code mask} as the availability of the person with {@code personId} in the week starting
+     * {@code monday}, replacing any archived availability for that week.
+     */
+    public void put(PersonId personId, LocalDate monday, AvailabilityMask mask) {
+        requireAllNonNull(personId, monday, mask);
+        NavigableMap<LocalDate, AvailabilityMask> weeks = new TreeMap<>();
+        weeks.put(monday, mask);
+        putAll(personId, weeks);
+    }
+
+    /**
+     * Archives every week in {@code weeks}, keyed by the Monday starting it, as the availability of the person
+     * with {@code personId}, replacing any archived availability for those weeks.
+     * If every week is later than the archived ones, they are appended to the chain; otherwise the chain is
+     * decoded and encoded again once for all of them.
+     */
+    public void putAll(PersonId personId, NavigableMap<LocalDate, AvailabilityMask> weeks) {
+        requireAllNonNull(personId, weeks);
+        weeks.forEach((monday, mask) -> {
+            checkArgument(monday.getDayOfWeek() == DayOfWeek.MONDAY, "Weeks must start on a Monday: " + monday);
+            checkArgument(mask.size() == WeekIndex.BINS_PER_WEEK, "Mask size must be " + WeekIndex.BINS_PER_WEEK);
+        });
+        if (weeks.isEmpty()) {
+            return;
+        }
+        byte[] chain = chains.get(personId);
+        Tail tail = chain == null ? Tail.EMPTY : tails.computeIfAbsent(personId, id -> Tail.of(decode(chain)));
+        if (tail.weekCount > 0 && toEpochWeek(weeks.firstKey()) <= tail.epochWeek) {
+            NavigableMap<LocalDate, AvailabilityMask> merged = decode(chain);
+            merged.putAll(weeks);
+            chains.put(personId, encode(merged));
+            tails.put(personId, Tail.of(merged));
+            return;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarLong(out, tail.weekCount + weeks.size());
+        if (chain != null) {
+            int countLength = varLongLength(tail.weekCount);
+            out.write(chain, countLength, chain.length - countLength);
+        }
+        byte[] previous = tail.week;
+        long previousWeek = tail.epochWeek;
+        for (Map.Entry<LocalDate, AvailabilityMask> entry : weeks.entrySet()) {
+            long epochWeek = toEpochWeek(entry.getKey());
+            previous = writeWeek(out, epochWeek - previousWeek, previous, entry.getValue());
+            previousWeek = epochWeek;
+        }
+        chains.put(personId, out.toByteArray());
+        tails.put(personId, new Tail(tail.weekCount + weeks.size(), previousWeek, previous));
+    }
+
+    /**
+     * Removes every archived week of the person with {@code personId}.
+     */
+    public void removePerson(PersonId personId) {
+        requireNonNull(personId);
+        chains.remove(personId);
+        tails.remove(personId);
+    }
+
+    /**
+     * Returns the ids of the persons with archived weeks.
+     */
+    public Set<PersonId> getPersonIds() {
+        return Collections.unmodifiableSet(chains.keySet());
+    }
+
+    /**
+     * Returns the encoded chain of weeks of the person with {@code personId}, such as for saving to a file.
+     */
+    public byte[] getChain(PersonId personId) {
+        requireNonNull(personId);
+        byte[] chain = chains.get(personId);
+        return chain == null ? encode(new TreeMap<>()) : chain.clone();
+    }
+
+    /**
+     * Replaces the archived weeks of the person with {@code personId} with an encoded {@code chain},
+     * such as one read from a file.
+     *
+     * @throws IllegalArgumentException if {@code chain} is not a valid chain.
+     */
+    public void putChain(PersonId personId, byte[] chain) {
+        requireAllNonNull(personId, chain);
+        decode(chain);
+        chains.put(personId, chain.clone());
+        tails.remove(personId);
+    }
+
+    /**
+     * Returns the total size of the encoded chains.
+     */
+    public int getSizeInBytes() {
+        return chains.values().stream().mapToInt(chain -> chain.length).sum();
+    }
+
+    /**
+     * Encodes {@code weeks} as a chain.
+     */
+    static byte[] encode(NavigableMap<LocalDate, AvailabilityMask> weeks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarLong(out, weeks.size());
+        byte[] previous = new byte[BYTES_PER_WEEK];
+        long previousWeek = 0;
+        for (Map.Entry<LocalDate, AvailabilityMask> entry : weeks.entrySet()) {
+            long epochWeek = toEpochWeek(entry.getKey());
+            previous = writeWeek(out, epochWeek - previousWeek, previous, entry.getValue());
+            previousWeek = epochWeek;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes one week of a chain: {@code gap} weeks after the previous week, holding {@code mask}, encoded as its
+     * difference from {@code previous}. Returns the bytes of {@code mask}, to encode the next week against.
+     */
+    private static byte[] writeWeek(ByteArrayOutputStream out, long gap, byte[] previous, AvailabilityMask mask) {
+        writeVarLong(out, gap);
+        byte[] current = mask.toByteArray();
+        byte[] difference = new byte[BYTES_PER_WEEK];
+        for (int i = 0; i < BYTES_PER_WEEK; i++) {
+            difference[i] = (byte) (current[i] ^ previous[i]);
+        }
+        writeRuns(out, difference);
+        return current;
+    }
+
+    /**
+     * Decodes every week in {@code chain}.
+     *
+     * @throws IllegalArgumentException if {@code chain} is not a valid chain.
+     */
+    static NavigableMap<LocalDate, AvailabilityMask> decode(byte[] chain) {
+        NavigableMap<LocalDate, AvailabilityMask> weeks = new TreeMap<>();
+        ChainReader reader = new ChainReader(chain);
+        byte[] week = new byte[BYTES_PER_WEEK];
+        long epochWeek = 0;
+        for (int remaining = reader.readWeekCount(); remaining > 0; remaining--) {
+            long gap = reader.readVarLong();
+            if (!weeks.isEmpty() && gap <= 0) {
+                throw new IllegalArgumentException(MESSAGE_CORRUPT_CHAIN);
+            }
+            epochWeek += gap;
+            reader.readDifference(week);
+            weeks.put(toMonday(epochWeek), AvailabilityMask.fromByteArray(week, WeekIndex.BINS_PER_WEEK));
+        }
+        if (!reader.isAtEnd()) {
+            throw new IllegalArgumentException(MESSAGE_CORRUPT_CHAIN);
+        }
+        return weeks;
+    }
+
+    private static long toEpochWeek(LocalDate monday) {
+        return Math.floorDiv(monday.toEpochDay() - EPOCH_DAY_OF_FIRST_MONDAY, DAYS_PER_WEEK);
+    }
+
+    private static LocalDate toMonday(long epochWeek) {
+        return LocalDate.ofEpochDay(EPOCH_DAY_OF_FIRST_MONDAY + epochWeek * DAYS_PER_WEEK);
+    }
+
+    /**
+     * Writes {@code bytes} as runs of zero bytes and runs of literal bytes.
+     */
+    private static void writeRuns(ByteArrayOutputStream out, byte[] bytes) {
+        int i = 0;
+        while (i < bytes.length) {
+            int runEnd = i;
+            if (bytes[i] == 0) {
+                while (runEnd < bytes.length && runEnd - i < MAX_RUN && bytes[runEnd] == 0) {
+                    runEnd++;
+                }
+                out.write(ZERO_RUN_FLAG | (runEnd - i - 1));
+            } else {
+                while (runEnd < bytes.length && runEnd - i < MAX_RUN && bytes[runEnd] != 0) {
+                    runEnd++;
+                }
+                out.write(runEnd - i - 1);
+                out.write(bytes, i, runEnd - i);
+            }
+            i = runEnd;
+        }
+    }
+
+    /**
+     * Writes {@code value} zigzag-encoded, seven bits per byte with the high bit marking that more follow.
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> (Long.SIZE - 1));
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) (zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeVarLong} writes for {@code value}.
+     */
+    private static int varLongLength(long value) {
+        long zigzag = (value << 1) ^ (value >> (Long.SIZE - 1));
+        int length = 1;
+        while ((zigzag & ~0x7FL) != 0) {
+            length++;
+            zigzag >>>= 7;
+        }
+        return length;
+    }
+
+    /**
+     * The number of weeks in a chain, and its last week, which a week appended to the chain is encoded against.
+     */
+    private static class Tail {
+        static final Tail EMPTY = new Tail(0, 0, new byte[BYTES_PER_WEEK]);
+
+        private final int weekCount;
+        private final long epochWeek;
+        private final byte[] week;
+
+        Tail(int weekCount, long epochWeek, byte[] week) {
+            this.weekCount = weekCount;
+            this.epochWeek = epochWeek;
+            this.week = week;
+        }
+
+        static Tail of(NavigableMap<LocalDate, AvailabilityMask> weeks) {
+            if (weeks.isEmpty()) {
+                return EMPTY;
+            }
+            Map.Entry<LocalDate, AvailabilityMask> last = weeks.lastEntry();
+            return new Tail(weeks.size(), toEpochWeek(last.getKey()), last.getValue().toByteArray());
+        }
+    }
+
+    /**
+     * Reads the parts of a chain in order, rejecting data that runs past its end.
+     */
+    private static class ChainReader {
+        private final byte[] chain;
+        private int position;
+
+        ChainReader(byte[] chain) {
+            this.chain = chain;
+        }
+
+        int readWeekCount() {
+            long count = readVarLong();
+            if (count < 0 || count > chain.length) {
+                throw new IllegalArgumentException(MESSAGE_CORRUPT_CHAIN);
+            }
+            return (int) count;
+        }
+
+        long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IllegalArgumentException(MESSAGE_CORRUPT_CHAIN);
+        }
+
+        /**
+         * Reads one encoded difference and XORs it into {@code week}.
+         */
+        void readDifference(byte[] week) {
+            int i = 0;
+            while (i < week.length) {
+                int header = readByte();
+                int length = (header & ~ZERO_RUN_FLAG) + 1;
+                if (i + length > week.length) {
+                    throw new IllegalArgumentException(MESSAGE_CORRUPT_CHAIN);
+                }
+                if ((header & ZERO_RUN_FLAG) == 0) {
+                    for (int end = i + length; i < end; i++) {
+                        week[i] ^= (byte) readByte();
+                    }
+                } else {
+                    i += length;
+                }
+            }
+        }
+
+        boolean isAtEnd() {
+            return position == chain.length;
+        }
+
+        private int readByte() {
+            if (position >= chain.length) {
+                throw new IllegalArgumentException(MESSAGE_CORRUPT_CHAIN);
+            }
+            return chain[position++] & 0xFF;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.model.person.timesheet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * Holds the weekly availability timesheets of every person, at most one per person per week.
+ * The availability itself is kept in a {@link TimesheetRepository}, which holds recently used weeks decoded
+ * and the rest compressed.
+ * Each week that is queried also gets an {@link AvailabilityIndex} of who is available in each bin, which is
+ * updated as availability is marked through this book.
+ */
+public class TimesheetBook {
+
+    private final TimesheetRepository repository;
+    private final Map<LocalDate, AvailabilityIndex> indexesByWeek = new HashMap<>();
+
+    /**
+     * Creates a book holding the weeks in {@code repository}.
+     */
+    public TimesheetBook(TimesheetRepository repository) {
+        this.repository = requireNonNull(repository);
+    }
+
+    /**
+     * Creates an empty book.
+     */
+    public TimesheetBook() {
+        this(new TimesheetRepository());
+    }
+
+    /**
+     * Returns the timesheet of the person with {@code personId} for {@code week}, if one has been recorded.
+     * The timesheet is a copy: changing it changes nothing in this book until it is passed to {@link #setTimesheet}.
+     */
+    public Optional<PersonTimesheet> getTimesheet(PersonId personId, WeekIndex week) {
+        requireAllNonNull(personId, week);
+        return repository.get(personId, week.getWeekStartMonday())
+                .map(mask -> new PersonTimesheet(personId, week, mask));
+    }
+
+
+    /**
+     * Records {@code timesheet}, replacing any timesheet of the same person for the same week.
+     * The week's index is rebuilt for that person from the availability {@code timesheet} has now.
+     */
+    public void setTimesheet(PersonTimesheet timesheet) {
+        requireNonNull(timesheet);
+        repository.put(timesheet.getPersonId(), timesheet.getWeekStartMonday(), timesheet.getMask());
+        AvailabilityIndex index = indexesByWeek.get(timesheet.getWeekStartMonday());
+        if (index != null) {
+            index.index(timesheet);
+        }
+    }
+
+    /**
+     * Returns the repository holding the availability, such as for saving it.
+     */
+    public TimesheetRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * Marks the person with {@code personId} as available from {@code start} to {@code end},
+     * which must lie in the same week; {@code end} may be the start of the next week.
+     * Bins that the range only partly covers are marked too.
+     */
+    public void markAvailable(PersonId personId, LocalDateTime start, LocalDateTime end) {
+        mark(personId, start, end, true);
+    }
+
+    /**
+     * Marks the person with {@code personId} as unavailable from {@code start} to {@code end},
+     * which must lie in the same week; {@code end} may be the start of the next week.
+     * Bins that the range only partly covers are marked too.
+     * A week with no availability recorded counts as free at all times, so the person stays available
+     * at the rest of such a week.
+     */
+    public void markUnavailable(PersonId personId, LocalDateTime start, LocalDateTime end) {
+        mark(personId, start, end, false);
+    }
+
+    /**
+     * Returns the ids of the persons available for the whole of {@code start} to {@code end}, in no particular
+     * order. {@code start} and {@code end} must lie in the same week, with {@code start} before {@code end};
+     * {@code end} may be the start of the next week.
+     */
+    public List<PersonId> findAvailable(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        WeekIndex week = new WeekIndex(start.toLocalDate());
+        int fromBin = week.toIndex(start);
+        int toBin = week.toEndIndex(end);
+        if (fromBin >= toBin) {
+            throw new IllegalArgumentException("Start must be before end: " + start + ", " + end);
+        }
+        return indexOf(week).findAvailable(fromBin, toBin);
+    }
+
+    /**
+     * Removes every timesheet of the person with {@code personId}.
+     */
+    public void removePerson(PersonId personId) {
+        requireNonNull(personId);
+        repository.removePerson(personId);
+        indexesByWeek.values().removeIf(index -> {
+            index.remove(personId);
+            return index.isEmpty();
+        });
+    }
+
+    /**
+     * Removes every timesheet of the persons whose ids are not in {@code personIds}.
+     */
+    public void retainPersons(Set<PersonId> personIds) {
+        requireNonNull(personIds);
+        repository.getPersonIds().stream()
+                .filter(personId -> !personIds.contains(personId))
+                .forEach(this::removePerson);
+    }
+
+    private void mark(PersonId personId, LocalDateTime start, LocalDateTime end, boolean available) {
+        requireAllNonNull(personId, start, end);
+        WeekIndex week = new WeekIndex(start.toLocalDate());
+        Optional<AvailabilityMask> recorded = repository.get(personId, week.getWeekStartMonday());
+        AvailabilityMask mask = recorded.orElseGet(() -> AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK));
+        if (recorded.isEmpty() && !available) {
+            // nothing recorded means free at all times, which marking part of the week unavailable must keep
+            mask.setRange(0, WeekIndex.BINS_PER_WEEK, true);
+        }
+        PersonTimesheet timesheet = new PersonTimesheet(personId, week, mask);
+        if (available) {
+            timesheet.markAvailable(start, end);
+        } else {
+            timesheet.markUnavailable(start, end);
+        }
+        repository.put(personId, week.getWeekStartMonday(), timesheet.getMask());
+        AvailabilityIndex index = indexesByWeek.get(week.getWeekStartMonday());
+        if (index != null && recorded.isEmpty()) {
+            index.index(timesheet);
+        } else if (index != null) {
+            index.setRange(personId, week.toIndex(start), week.toEndIndex(end), available);
+        }
+    }
+
+    /**
+     * Returns the index of {@code week}, building it from the recorded timesheets the first time it is needed.
+     */
+    private AvailabilityIndex indexOf(WeekIndex week) {
+        return indexesByWeek.computeIfAbsent(week.getWeekStartMonday(), monday -> {
+            AvailabilityIndex index = new AvailabilityIndex();
+            repository.forEachInWeek(monday, (personId, mask) ->
+                    index.index(new PersonTimesheet(personId, week, mask)));
+            return index;
+        });
+    }
+}
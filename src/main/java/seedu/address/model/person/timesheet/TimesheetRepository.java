@@ -0,0 +1,210 @@
+package seedu.address.model.person.timesheet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * Stores the weekly availability masks of many persons over many weeks, keyed by person and week.
+ * The most recently used masks are kept decoded in a bounded cache; when the cache is full, the least recently
+ * used mask is dropped, after being written back to a {@link TimesheetArchive} in compressed form if it was changed,
+ * and decoded again when next needed.
+ * Masks are copied in and out, so a change to a mask is only kept once it is stored again with {@link #put}.
+ */
+public class TimesheetRepository {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final TimesheetArchive archive;
+    private final LinkedHashMap<Key, AvailabilityMask> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Key> unflushed = new HashSet<>();
+    private boolean hasUnsavedChanges;
+
+    /**
+     * Creates a repository caching at most {@code capacity} masks over the weeks in {@code archive}.
+     */
+    public TimesheetRepository(int capacity, TimesheetArchive archive) {
+        requireNonNull(archive);
+        checkArgument(capacity > 0, "Capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.archive = archive;
+    }
+
+    /**
+     * Creates an empty repository with the default capacity.
+     */
+    public TimesheetRepository() {
+        this(DEFAULT_CAPACITY, new TimesheetArchive());
+    }
+
+    /**
+     * Returns a copy of the mask of the person with {@code personId} for the week starting {@code monday},
+     * if there is one.
+     */
+    public Optional<AvailabilityMask> get(PersonId personId, LocalDate monday) {
+        requireAllNonNull(personId, monday);
+        Key key = new Key(personId, monday);
+        AvailabilityMask mask = cache.get(key);
+        if (mask != null) {
+            return Optional.of(mask.copy());
+        }
+        Optional<AvailabilityMask> archived = archive.get(personId, monday);
+        archived.ifPresent(loaded -> cacheMask(key, loaded.copy()));
+        return archived;
+    }
+
+    /**
+     * Stores a copy of {@code mask} for the person with {@code personId} and the week starting {@code monday}.
+     */
+    public void put(PersonId personId, LocalDate monday, AvailabilityMask mask) {
+        requireAllNonNull(personId, monday, mask);
+        checkArgument(monday.getDayOfWeek() == DayOfWeek.MONDAY, "Weeks must start on a Monday: " + monday);
+        checkArgument(mask.size() == WeekIndex.BINS_PER_WEEK, "Mask size must be " + WeekIndex.BINS_PER_WEEK);
+        Key key = new Key(personId, monday);
+        unflushed.add(key);
+        hasUnsavedChanges = true;
+        cacheMask(key, mask.copy());
+    }
+
+    /**
+     * Removes every mask of the person with {@code personId}.
+     */
+    public void removePerson(PersonId personId) {
+        requireNonNull(personId);
+        boolean wasCached = cache.keySet().removeIf(key -> key.personId.equals(personId));
+        unflushed.removeIf(key -> key.personId.equals(personId));
+        boolean wasArchived = archive.getPersonIds().contains(personId);
+        archive.removePerson(personId);
+        hasUnsavedChanges |= wasCached || wasArchived;
+    }
+
+    /**
+     * Returns the ids of the persons with at least one mask.
+     */
+    public Set<PersonId> getPersonIds() {
+        Set<PersonId> personIds = new HashSet<>(archive.getPersonIds());
+        cache.keySet().forEach(key -> personIds.add(key.personId));
+        return personIds;
+    }
+
+    /**
+     * Calls {@code action} with every person that has a mask for the week starting {@code monday}, and a copy
+     * of that mask. Masks that are not cached are decoded for the call but not cached, so this does not evict any.
+     */
+    public void forEachInWeek(LocalDate monday, BiConsumer<PersonId, AvailabilityMask> action) {
+        requireAllNonNull(monday, action);
+        Set<PersonId> seen = new HashSet<>();
+        for (Map.Entry<Key, AvailabilityMask> entry : cache.entrySet()) {
+            if (entry.getKey().monday.equals(monday)) {
+                seen.add(entry.getKey().personId);
+                action.accept(entry.getKey().personId, entry.getValue().copy());
+            }
+        }
+        for (PersonId personId : archive.getPersonIds()) {
+            if (!seen.contains(personId)) {
+                archive.get(personId, monday).ifPresent(mask -> action.accept(personId, mask));
+            }
+        }
+    }
+
+    /**
+     * Writes every cached mask changed since it was last written back to the archive, and returns the archive,
+     * such as for saving to a file. The masks stay cached.
+     * The changed weeks of each person are written back together, so their chain is updated once.
+     */
+    public TimesheetArchive flush() {
+        Map<PersonId, NavigableMap<LocalDate, AvailabilityMask>> weeksByPerson = new HashMap<>();
+        unflushed.forEach(key -> weeksByPerson.computeIfAbsent(key.personId, personId -> new TreeMap<>())
+                .put(key.monday, cache.get(key)));
+        weeksByPerson.forEach(archive::putAll);
+        unflushed.clear();
+        return archive;
+    }
+
+    /**
+     * Returns true if masks were stored or removed since the last call to {@link #markSaved}.
+     */
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    /**
+     * Records that the masks as they are now have been saved, such as to a file.
+     */
+    public void markSaved() {
+        hasUnsavedChanges = false;
+    }
+
+    /**
+     * Returns the number of masks currently cached.
+     */
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Caches {@code mask}, dropping the least recently used masks if the cache is over capacity.
+     * A dropped mask is written back to the archive only if it was changed since it was last written back.
+     */
+    private void cacheMask(Key key, AvailabilityMask mask) {
+        cache.put(key, mask);
+        Iterator<Map.Entry<Key, AvailabilityMask>> eldest = cache.entrySet().iterator();
+        while (cache.size() > capacity) {
+            Map.Entry<Key, AvailabilityMask> entry = eldest.next();
+            if (unflushed.remove(entry.getKey())) {
+                archive.put(entry.getKey().personId, entry.getKey().monday, entry.getValue());
+            }
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Identifies the mask of one person for one week.
+     */
+    private static final class Key {
+        private final PersonId personId;
+        private final LocalDate monday;
+
+        Key(PersonId personId, LocalDate monday) {
+            this.personId = personId;
+            this.monday = monday;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key otherKey = (Key) other;
+            return personId.equals(otherKey.personId) && monday.equals(otherKey.monday);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(personId, monday);
+        }
+    }
+}
@@ -37,6 +37,20 @@ public final class WeekIndex {
         }
         return (int) (minutes / MINUTES_PER_BIN);
     }
+    /**
+     * Returns the bin at which a range ending, exclusively, at {@code end} stops: the first bin starting at or after
+     * {@code end}. A range ending part-way through a bin therefore covers that whole bin.
+     * {@code end} may be the start of the next week, which gives {@link #BINS_PER_WEEK}.
+     */
+    public int toEndIndex(LocalDateTime end) {
+        long minutes = Duration.between(startOfWeek(), end).toMinutes();
+        long span = (long) BINS_PER_WEEK * MINUTES_PER_BIN;
+        if (minutes < 0 || minutes > span) {
+            throw new IllegalArgumentException("End time outside this week grid: " + end);
+        }
+        return (int) ((minutes + MINUTES_PER_BIN - 1) / MINUTES_PER_BIN);
+    }
+
     /**
      * Returns a LocalDateTime object given an index
      * @param index
@@ -52,5 +66,29 @@ public final class WeekIndex {
     public LocalDate getWeekStartMonday() {
         return weekStartMonday;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeekIndex)) {
+            return false;
+        }
+
+        return weekStartMonday.equals(((WeekIndex) other).weekStartMonday);
+    }
+
+    @Override
+    public int hashCode() {
+        return weekStartMonday.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "week of " + weekStartMonday;
+    }
 }
 
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+import seedu.address.model.person.PersonFieldValidator;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +16,8 @@ public class Tag {
     private static final int MAX_LENGTH = 25;
     public static final String MESSAGE_CONSTRAINTS = "Tag names should be non-empty, alphanumeric "
             + "and not exceed " + MAX_LENGTH + " characters.";
+    private static final WeakInterner<String, Tag> POOL = new WeakInterner<>();
+
     public final String tagName;
 
     /**
@@ -26,11 +31,30 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     * Tags in use are pooled, so equal tags obtained this way are the same instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return POOL.intern(tagName, Tag::new);
+    }
+
+    /**
+     * Returns the shared {@code Tag} equal to {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        return POOL.intern(tag.tagName, name -> tag);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return PersonFieldValidator.isAlphanumeric(test, MAX_LENGTH);
     }
 
     @Override
@@ -45,7 +69,7 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        return tagName.hashCode() == otherTag.tagName.hashCode() && tagName.equals(otherTag.tagName);
     }
 
     @Override
@@ -0,0 +1,141 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A dictionary of the tags in use, mapping each distinct {@code Tag} to a dense id and each id to a bitmap
+ * of the persons carrying that tag. Tag queries are answered by combining bitmaps instead of scanning every person.
+ *
+ * Persons are numbered by slots owned by this index rather than by their position in the person list,
+ * so that inserting into the chronologically ordered list does not shift any bitmap.
+ * Slots freed by removed persons are reused, which keeps the bitmaps dense.
+ */
+public class TagIndex {
+
+    private final Map<Tag, Integer> tagIds = new HashMap<>();
+    private final List<Tag> tags = new ArrayList<>();
+    private final List<BitSet> postings = new ArrayList<>();
+
+    private final Map<Person, Integer> slotsByPerson = new HashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+
+    /**
+     * Indexes {@code person} under each of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = occupiedSlots.nextClearBit(0);
+        occupiedSlots.set(slot);
+        if (slot == persons.size()) {
+            persons.add(person);
+        } else {
+            persons.set(slot, person);
+        }
+        slotsByPerson.put(person, slot);
+        for (Tag tag : person.getTags()) {
+            postings.get(idOf(tag)).set(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person was never indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            postings.get(tagIds.get(tag)).clear(slot);
+        }
+        persons.set(slot, null);
+        occupiedSlots.clear(slot);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Rebuilds the index so that it contains exactly {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        tagIds.clear();
+        tags.clear();
+        postings.clear();
+        slotsByPerson.clear();
+        this.persons.clear();
+        occupiedSlots.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the bitmap of every indexed person. The returned bitmap may be modified freely.
+     */
+    public BitSet getAllPersons() {
+        return (BitSet) occupiedSlots.clone();
+    }
+
+    /**
+     * Returns the bitmap of persons with a tag whose name contains {@code keyword}, ignoring case.
+     * Only the distinct tags in the dictionary are compared against the keyword.
+     * The returned bitmap may be modified freely.
+     */
+    public BitSet getPersonsTagged(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        BitSet result = new BitSet();
+        for (int id = 0; id < tags.size(); id++) {
+            if (tags.get(id).tagName.toLowerCase().contains(lowerCaseKeyword)) {
+                result.or(postings.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons whose slots are set in {@code bitmap}.
+     */
+    public List<Person> getPersons(BitSet bitmap) {
+        requireNonNull(bitmap);
+        List<Person> result = new ArrayList<>(bitmap.cardinality());
+        int slot = bitmap.nextSetBit(0);
+        while (slot >= 0 && slot < persons.size()) {
+            Person person = persons.get(slot);
+            if (person != null) {
+                result.add(person);
+            }
+            slot = bitmap.nextSetBit(slot + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dense id of {@code tag}, assigning the next id if the tag is new.
+     */
+    private int idOf(Tag tag) {
+        Integer id = tagIds.get(tag);
+        if (id == null) {
+            id = tags.size();
+            tagIds.put(tag, id);
+            tags.add(tag);
+            postings.add(new BitSet());
+        }
+        return id;
+    }
+}
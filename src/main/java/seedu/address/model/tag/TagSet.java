@@ -0,0 +1,126 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as a sorted array of canonical {@link Tag} instances.
+ * Most persons share the same few tags and have only a couple each, so this is much smaller than a
+ * {@code HashSet}. Iterates in order of tag name.
+ * Guarantees: immutable; equal to any other {@code Set<Tag>} with the same tags.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+    private static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+    private final int hash;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        this.hash = Arrays.stream(tags).mapToInt(Tag::hashCode).sum();
+    }
+
+    /**
+     * Returns a set of the canonical instances of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        Tag[] sorted = tags.stream().map(Tag::intern).sorted(BY_NAME).distinct().toArray(Tag[]::new);
+        return new TagSet(sorted);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && Arrays.binarySearch(tags, (Tag) other, BY_NAME) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet && hash != ((TagSet) other).hash) {
+            return false;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    // Modifications always throw, even when they would not change the set.
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (next >= tags.length) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+}
@@ -13,6 +13,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Contains utility methods for populating {@code AddressBook} with sample data.
@@ -57,8 +58,8 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
-                .collect(Collectors.toSet());
+                .map(Tag::of)
+                .collect(Collectors.collectingAndThen(Collectors.toList(), TagSet::of));
     }
 
 }
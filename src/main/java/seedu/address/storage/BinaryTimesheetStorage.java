@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+
+/**
+ * A class to access timesheets stored as a binary file on the hard disk.
+ * The file holds a header, the number of persons, then for each person their id and their encoded chain of weeks
+ * as kept by {@link TimesheetArchive}. Chains are only decoded when their weeks are used.
+ */
+public class BinaryTimesheetStorage implements TimesheetStorage {
+
+    /** Marks a timesheet file, and its format version: "TSH" then 1. */
+    private static final int HEADER = 0x54534801;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTimesheetStorage.class);
+
+    private Path filePath;
+
+    public BinaryTimesheetStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTimesheetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<TimesheetArchive> readTimesheets() throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Timesheet file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(filePath)))) {
+            if (in.readInt() != HEADER) {
+                throw new IOException("Not a timesheet file: " + filePath);
+            }
+            TimesheetArchive archive = new TimesheetArchive();
+            int personCount = in.readInt();
+            for (int i = 0; i < personCount; i++) {
+                long id = in.readLong();
+                if (!PersonId.isValidId(id)) {
+                    throw new IOException(PersonId.MESSAGE_CONSTRAINTS);
+                }
+                int length = in.readInt();
+                if (length < 0 || length > in.available()) {
+                    throw new IOException("Truncated timesheet file: " + filePath);
+                }
+                byte[] chain = new byte[length];
+                in.readFully(chain);
+                archive.putChain(PersonId.of(id), chain);
+            }
+            if (in.available() > 0) {
+                throw new IOException("Unexpected data at the end of " + filePath);
+            }
+            return Optional.of(archive);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Error reading from timesheet file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveTimesheets(TimesheetArchive archive) throws IOException {
+        requireNonNull(archive);
+        requireNonNull(filePath);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(HEADER);
+            out.writeInt(archive.getPersonIds().size());
+            for (PersonId personId : archive.getPersonIds()) {
+                byte[] chain = archive.getChain(personId);
+                out.writeLong(personId.getValue());
+                out.writeInt(chain.length);
+                out.write(chain);
+            }
+        }
+        FileUtil.createIfMissing(filePath);
+        Files.write(filePath, bytes.toByteArray());
+    }
+}
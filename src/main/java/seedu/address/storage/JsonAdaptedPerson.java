@@ -14,6 +14,8 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonFieldValidator;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
@@ -25,6 +27,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -36,10 +39,11 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-                             @JsonProperty("timeslot") String timeSlot,
-                             @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("timeslot") String timeSlot,
+            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -54,22 +58,43 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().getValue();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
-        timeSlot = source.getTimeSlot().value;
+        timeSlot = source.getTimeSlot().getValue();
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Registers the saved id of this person, if it has one, so that ids issued later never clash with it.
+     * When loading many persons, every saved id should be registered before any person without one is converted.
+     *
+     * @throws IllegalValueException if the saved id is invalid.
+     */
+    public void reserveId() throws IllegalValueException {
+        if (id == null) {
+            return;
+        }
+        if (!PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        PersonId.of(id);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        // Persons saved before ids were introduced get a new id
+        reserveId();
+        final PersonId modelId = id == null ? PersonId.next() : PersonId.of(id);
+
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -78,26 +103,17 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = PersonFieldValidator.validateName(name).orElseThrow(IllegalValueException::new);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = PersonFieldValidator.validatePhone(phone).orElseThrow(IllegalValueException::new);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = PersonFieldValidator.validateEmail(email).orElseThrow(IllegalValueException::new);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -106,24 +122,12 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
 
-        if (!TimeSlot.isValidTimeSlot(timeSlot)) {
-            throw new IllegalValueException(TimeSlot.MESSAGE_CONSTRAINTS);
-        }
-
-        final TimeSlot modelTimeSlot = new TimeSlot(timeSlot);
+        final TimeSlot modelTimeSlot = TimeSlot.parse(timeSlot).orElseThrow(IllegalValueException::new);
 
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
-
-        if (!TimeSlot.isValidTimeSlot(timeSlot)) {
-            throw new IllegalValueException(TimeSlot.MESSAGE_CONSTRAINTS);
-        }
-        //final TimeSlot modelTimeSlot = new TimeSlot(timeSlot);
+        final Address modelAddress = PersonFieldValidator.validateAddress(address)
+                .orElseThrow(IllegalValueException::new);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTimeSlot, modelTags);
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTimeSlot, modelTags);
     }
-
 }
@@ -8,11 +8,12 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.timesheet.TimesheetArchive;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage, TimeSlotStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, TimeSlotStorage, TimesheetStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -28,4 +29,10 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, TimeSlotS
 
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    @Override
+    Optional<TimesheetArchive> readTimesheets() throws DataLoadingException;
+
+    @Override
+    void saveTimesheets(TimesheetArchive archive) throws IOException;
 }
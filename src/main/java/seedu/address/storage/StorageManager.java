@@ -2,6 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.TreeSet;
 import java.util.logging.Logger;
@@ -12,25 +18,45 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.timesheet.TimesheetArchive;
 
 /**
  * Manages storage of AddressBook data in local storage.
  */
 public class StorageManager implements Storage {
 
+    /** Name of the timesheet file kept next to the address book file by default. */
+    public static final String DEFAULT_TIMESHEET_FILE_NAME = "timesheets.bin";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    /** End time of the earliest possible slot in a day, used to build range bounds. */
+    private static final LocalTime EARLIEST_END = LocalTime.MIDNIGHT.plusMinutes(1);
     private final TreeSet<TimeSlot> timeSlots = new TreeSet<>();
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private TimesheetStorage timesheetStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage}
+     * and {@code TimesheetStorage}.
      */
-    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            TimesheetStorage timesheetStorage) {
         assert addressBookStorage != null : "AddressBookStorage cannot be null";
         assert userPrefsStorage != null : "UserPrefsStorage cannot be null";
+        assert timesheetStorage != null : "TimesheetStorage cannot be null";
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.timesheetStorage = timesheetStorage;
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * keeping timesheets in {@link #DEFAULT_TIMESHEET_FILE_NAME} next to the address book file.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new BinaryTimesheetStorage(
+                addressBookStorage.getAddressBookFilePath().resolveSibling(DEFAULT_TIMESHEET_FILE_NAME)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -84,13 +110,33 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    // ================ Timesheet methods ==============================
+
+    @Override
+    public Path getTimesheetFilePath() {
+        return timesheetStorage.getTimesheetFilePath();
+    }
+
+    @Override
+    public Optional<TimesheetArchive> readTimesheets() throws DataLoadingException {
+        logger.fine("Attempting to read timesheets from file: " + getTimesheetFilePath());
+        return timesheetStorage.readTimesheets();
+    }
+
+    @Override
+    public void saveTimesheets(TimesheetArchive archive) throws IOException {
+        assert archive != null : "TimesheetArchive cannot be null";
+        logger.fine("Attempting to write timesheets to file: " + getTimesheetFilePath());
+        timesheetStorage.saveTimesheets(archive);
+    }
+
+    // ================ TimeSlot methods ==============================
+
     @Override
     public boolean addSlot(TimeSlot slot) {
         assert slot != null : "TimeSlot to add cannot be null";
-        for (TimeSlot existing : timeSlots) {
-            if (existing.overlaps(slot)) {
-                return false;
-            }
+        if (hasConflict(slot)) {
+            return false;
         }
         timeSlots.add(slot);
         return true;
@@ -98,13 +144,57 @@ public class StorageManager implements Storage {
 
     @Override
     public void removeSlot(TimeSlot slot) {
-        timeSlots.remove(slot);
+        if (slot != null) {
+            timeSlots.remove(slot);
+        }
     }
 
     @Override
     public void loadExistingSlots(ReadOnlyAddressBook addressBook) {
         assert addressBook != null : "AddressBook cannot be null when loading slots";
+        List<TimeSlot> loaded = new ArrayList<>(addressBook.getPersonList().size());
+        addressBook.getPersonList().forEach(person -> {
+            if (person.getTimeSlot() != null) {
+                loaded.add(person.getTimeSlot());
+            }
+        });
+        // The person list is kept chronologically, so this sort is close to linear
+        Collections.sort(loaded);
         timeSlots.clear();
-        addressBook.getPersonList().forEach(person -> timeSlots.add(person.getTimeSlot()));
+        TimeSlot lastKept = null;
+        for (TimeSlot slot : loaded) {
+            // conflict checks rely on stored slots never overlapping, so a slot overlapping an earlier one is skipped
+            if (lastKept != null && lastKept.overlaps(slot)) {
+                logger.warning("Skipping time slot " + slot + " as it overlaps " + lastKept);
+                continue;
+            }
+            timeSlots.add(slot);
+            lastKept = slot;
+        }
+    }
+
+    @Override
+    public NavigableSet<TimeSlot> slotsBetween(LocalDate from, LocalDate to) {
+        assert from != null && to != null : "Range bounds cannot be null";
+        if (from.isAfter(to)) {
+            return Collections.emptyNavigableSet();
+        }
+        TimeSlot lowest = TimeSlot.of(from, LocalTime.MIDNIGHT, EARLIEST_END);
+        TimeSlot beyond = TimeSlot.of(to.plusDays(1), LocalTime.MIDNIGHT, EARLIEST_END);
+        return Collections.unmodifiableNavigableSet(timeSlots.subSet(lowest, true, beyond, false));
+    }
+
+    /**
+     * Returns true if {@code slot} overlaps a stored slot.
+     * Stored slots never overlap each other, so only the slots immediately before and after
+     * {@code slot} in chronological order can conflict with it.
+     */
+    private boolean hasConflict(TimeSlot slot) {
+        TimeSlot before = timeSlots.floor(slot);
+        if (before != null && before.overlaps(slot)) {
+            return true;
+        }
+        TimeSlot after = timeSlots.ceiling(slot);
+        return after != null && after.overlaps(slot);
     }
 }
@@ -1,16 +1,20 @@
 package seedu.address.storage;
 
+import java.time.LocalDate;
+import java.util.NavigableSet;
+
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.TimeSlot;
 
 /**
- * TimeSlotStorage
+ * Represents a registry of booked time slots, kept in chronological order so that conflicts
+ * and date ranges can be looked up without scanning every slot.
  */
 public interface TimeSlotStorage {
     /**
      * Add a TimeSlot to the storage if it does not conflict with existing slots.
      * @param slot
-     * @return
+     * @return true if the slot was added, false if it conflicts with an existing slot
      */
     boolean addSlot(TimeSlot slot);
 
@@ -21,5 +25,18 @@ public interface TimeSlotStorage {
      */
     void removeSlot(TimeSlot slot);
 
+    /**
+     * Replaces the stored slots with the time slots of every person in {@code addressBook}.
+     * A slot that overlaps an earlier one is not stored, so stored slots never overlap.
+     * @param addressBook
+     */
     void loadExistingSlots(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns a read-only, chronologically ordered view of the slots whose date lies between
+     * {@code from} and {@code to}, both inclusive.
+     * @param from first date of the range
+     * @param to last date of the range
+     */
+    NavigableSet<TimeSlot> slotsBetween(LocalDate from, LocalDate to);
 }
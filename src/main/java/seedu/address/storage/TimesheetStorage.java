@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+
+/**
+ * Represents a storage for the weekly availability of persons, as a {@link TimesheetArchive}.
+ */
+public interface TimesheetStorage {
+
+    /**
+     * Returns the file path of the timesheet file.
+     */
+    Path getTimesheetFilePath();
+
+    /**
+     * Returns the archived timesheets.
+     * Returns {@code Optional.empty()} if the storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<TimesheetArchive> readTimesheets() throws DataLoadingException;
+
+    /**
+     * Saves the given {@link TimesheetArchive} to the storage.
+     * @param archive cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveTimesheets(TimesheetArchive archive) throws IOException;
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    @Test
+    public void intern_sameKey_returnsFirstValue() {
+        WeakInterner<String, StringBuilder> interner = new WeakInterner<>();
+        StringBuilder first = interner.intern("key", StringBuilder::new);
+        assertSame(first, interner.intern("key", key -> new StringBuilder("other")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_addsNothing() {
+        WeakInterner<String, StringBuilder> interner = new WeakInterner<>();
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("key", key -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        WeakInterner<String, String> interner = new WeakInterner<>();
+        assertThrows(NullPointerException.class, () -> interner.intern(null, key -> key));
+        assertThrows(NullPointerException.class, () -> interner.intern("key", null));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,6 +15,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AvailabilityCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -72,6 +76,25 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSaveTimesheets() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve(StorageManager.DEFAULT_TIMESHEET_FILE_NAME)));
+    }
+
+    @Test
+    public void execute_availabilityChanged_savesTimesheetsOnce() throws Exception {
+        model.addPerson(new PersonBuilder(AMY).withTimeSlot("2099-01-01 1000-1100").build());
+        Path timesheetFile = temporaryFolder.resolve(StorageManager.DEFAULT_TIMESHEET_FILE_NAME);
+        logic.execute(AvailabilityCommand.COMMAND_WORD_AVAILABLE + " 1 ts/2025-10-14 1600-1800");
+        assertTrue(Files.exists(timesheetFile));
+        assertFalse(model.hasUnsavedTimesheets());
+
+        Files.delete(timesheetFile);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(timesheetFile));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -9,9 +9,13 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,12 +25,19 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.FreeSlotQuery;
 import seedu.address.model.Model;
+import seedu.address.model.MutableModelTx;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.timesheet.FreeWindow;
+import seedu.address.model.person.timesheet.PersonTimesheet;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+import seedu.address.model.person.timesheet.WeekIndex;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -184,6 +195,66 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getPersonsEndedBefore(LocalDateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<FreeWindow> findFreeSlots(FreeSlotQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<PersonTimesheet> getTimesheet(PersonId personId, WeekIndex week) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTimesheet(PersonTimesheet timesheet) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAvailable(PersonId personId, LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markUnavailable(PersonId personId, LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsAvailable(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TimesheetArchive getTimesheetArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedTimesheets() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markTimesheetsSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Consumer<MutableModelTx> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Person> getConflictingPerson(TimeSlot timeSlot) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AvailabilityCommand}.
+ */
+public class AvailabilityCommandTest {
+
+    private static final LocalDate TUESDAY = LocalDate.of(2025, 10, 14);
+    private static final TimeSlot AFTERNOON = new TimeSlot("2025-10-14 1600-1800");
+    private static final TimeSlot EVENING = new TimeSlot("2025-10-14 1700-1800");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_available_marksPersonAvailable() {
+        AvailabilityCommand command = new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(AFTERNOON), true);
+        String expectedMessage = String.format(AvailabilityCommand.MESSAGE_SUCCESS, ALICE.getName(),
+                AvailabilityCommand.COMMAND_WORD_AVAILABLE, AFTERNOON);
+        expectedModel.markAvailable(ALICE.getId(), TUESDAY.atTime(16, 0), TUESDAY.atTime(18, 0));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE), model.getPersonsAvailable(TUESDAY.atTime(16, 0), TUESDAY.atTime(18, 0)));
+    }
+
+    @Test
+    public void execute_unavailable_clearsMarkedTimes() throws Exception {
+        new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(AFTERNOON), true).execute(model);
+        new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(EVENING), false).execute(model);
+
+        assertEquals(List.of(ALICE), model.getPersonsAvailable(TUESDAY.atTime(16, 0), TUESDAY.atTime(17, 0)));
+        assertTrue(model.getPersonsAvailable(TUESDAY.atTime(17, 0), TUESDAY.atTime(18, 0)).isEmpty());
+    }
+
+    @Test
+    public void execute_unavailableWithNothingRecorded_keepsRestOfWeekAvailable() throws Exception {
+        new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(EVENING), false).execute(model);
+
+        assertEquals(List.of(ALICE), model.getPersonsAvailable(TUESDAY.atTime(16, 0), TUESDAY.atTime(17, 0)));
+        assertEquals(List.of(ALICE), model.getPersonsAvailable(TUESDAY.plusDays(1).atTime(9, 0),
+                TUESDAY.plusDays(1).atTime(10, 0)));
+        assertTrue(model.getPersonsAvailable(TUESDAY.atTime(17, 0), TUESDAY.atTime(18, 0)).isEmpty());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        AvailabilityCommand command = new AvailabilityCommand(outOfBoundIndex, List.of(AFTERNOON), true);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        AvailabilityCommand command = new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(AFTERNOON), true);
+
+        // same values -> returns true
+        assertTrue(command.equals(new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(AFTERNOON), true)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different values -> returns false
+        assertFalse(command.equals(new AvailabilityCommand(INDEX_SECOND_PERSON, List.of(AFTERNOON), true)));
+        assertFalse(command.equals(new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(EVENING), true)));
+        assertFalse(command.equals(new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(AFTERNOON), false)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AvailabilityCommand command = new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(AFTERNOON), true);
+        String expected = AvailabilityCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_PERSON
+                + ", timeSlots=" + List.of(AFTERNOON) + ", isAvailable=true}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.timesheet.PersonTimesheet;
+import seedu.address.model.person.timesheet.WeekIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindCommonCommand}.
+ * In the typical address book, BENSON to GEORGE each have a 1000-1100 lesson on one day of the week of 2025-10-13.
+ */
+public class FindCommonCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+    private static final WeekIndex WEEK = new WeekIndex(MONDAY);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_indexesWithTimesheets_intersectsAvailabilityAndSkipsLessons() {
+        PersonTimesheet alice = new PersonTimesheet(ALICE.getId(), WEEK);
+        alice.markAvailable(MONDAY.atTime(9, 0), MONDAY.atTime(12, 0));
+        alice.markAvailable(MONDAY.plusDays(1).atTime(14, 0), MONDAY.plusDays(1).atTime(16, 0));
+        PersonTimesheet benson = new PersonTimesheet(BENSON.getId(), WEEK);
+        benson.markAvailable(MONDAY.atTime(8, 0), MONDAY.atTime(11, 30));
+        benson.markAvailable(MONDAY.plusDays(1).atTime(15, 0), MONDAY.plusDays(1).atTime(17, 0));
+        model.setTimesheet(alice);
+        model.setTimesheet(benson);
+
+        // the common Monday 1100-1130 window is too short
+        FindCommonCommand command = new FindCommonCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                Set.of(), WEEK, 60);
+        String expectedMessage = String.format(FindCommonCommand.MESSAGE_SUCCESS, 2, WEEK, 60,
+                "2025-10-13 0900-1000\n2025-10-14 1500-1600");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tagWithoutTimesheets_findsGapsBetweenLessons() {
+        // ALICE, BENSON and DANIEL are friends; none has a timesheet, so only lessons constrain them
+        FindCommonCommand command = new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(new Tag("friends")),
+                WEEK, 24 * 60);
+        String expectedMessage = String.format(FindCommonCommand.MESSAGE_SUCCESS, 3, WEEK, 24 * 60,
+                "2025-10-18 1100 to 2025-10-20 0000");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noCommonTime_reportsNone() {
+        model.setTimesheet(new PersonTimesheet(ALICE.getId(), WEEK));
+        FindCommonCommand command = new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(), WEEK, 30);
+        String expectedMessage = String.format(FindCommonCommand.MESSAGE_NO_COMMON_TIME, 1, WEEK, 30);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        FindCommonCommand command = new FindCommonCommand(List.of(outOfBoundIndex), Set.of(), WEEK, 30);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noMatchingStudents_throwsCommandException() {
+        FindCommonCommand command = new FindCommonCommand(List.of(), Set.of(new Tag("nobody")), WEEK, 30);
+        assertCommandFailure(command, model, FindCommonCommand.MESSAGE_NO_STUDENTS);
+    }
+
+    @Test
+    public void equals() {
+        FindCommonCommand command = new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(), WEEK, 60);
+
+        // same values -> returns true
+        assertTrue(command.equals(new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(),
+                new WeekIndex(MONDAY.plusDays(3)), 60)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different values -> returns false
+        assertFalse(command.equals(new FindCommonCommand(List.of(INDEX_SECOND_PERSON), Set.of(), WEEK, 60)));
+        assertFalse(command.equals(new FindCommonCommand(List.of(INDEX_FIRST_PERSON),
+                Set.of(new Tag("friends")), WEEK, 60)));
+        assertFalse(command.equals(new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(),
+                new WeekIndex(MONDAY.plusWeeks(1)), 60)));
+        assertFalse(command.equals(new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(), WEEK, 90)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindCommonCommand command = new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(), WEEK, 60);
+        String expected = FindCommonCommand.class.getCanonicalName() + "{indexes=" + List.of(INDEX_FIRST_PERSON)
+                + ", tags=" + Set.of() + ", week=" + WEEK + ", minMinutes=60}";
+        assertEquals(expected, command.toString());
+    }
+}
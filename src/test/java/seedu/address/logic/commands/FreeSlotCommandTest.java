@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FreeSlotQuery;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FreeSlotCommand}.
+ * In the typical address book, BENSON to GEORGE each have a 1000-1100 lesson on one day of the week of 2025-10-13.
+ */
+public class FreeSlotCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+    private static final Optional<LocalTime> NINE = Optional.of(LocalTime.of(9, 0));
+    private static final Optional<LocalTime> NOON = Optional.of(LocalTime.of(12, 0));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_workingHours_listsGapsAroundLessons() {
+        FreeSlotCommand command = new FreeSlotCommand(
+                new FreeSlotQuery(MONDAY, MONDAY.plusDays(1), 60, NINE, NOON, 3));
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_SUCCESS, 3, 60,
+                "2025-10-13 0900-1000\n2025-10-13 1100-1200\n2025-10-14 0900-1000");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noWorkingHours_listsWholeGaps() {
+        // ALICE has a 1600-1800 lesson on 2025-10-12 and BENSON a 1000-1100 lesson on 2025-10-13
+        FreeSlotCommand command = new FreeSlotCommand(new FreeSlotQuery(MONDAY.minusDays(1), MONDAY, 60,
+                Optional.empty(), Optional.empty(), FreeSlotCommand.DEFAULT_COUNT));
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_SUCCESS, 3, 60,
+                "2025-10-12 0000-1600\n2025-10-12 1800 to 2025-10-13 1000\n2025-10-13 1100 to 2025-10-14 0000");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noLongEnoughGap_reportsNone() {
+        FreeSlotCommand command = new FreeSlotCommand(new FreeSlotQuery(MONDAY, MONDAY, 90, NINE, NOON, 5));
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_NO_FREE_SLOT, 90, MONDAY, MONDAY);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotQuery query = new FreeSlotQuery(MONDAY, MONDAY, 60, NINE, NOON, 5);
+        FreeSlotCommand command = new FreeSlotCommand(query);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FreeSlotCommand(new FreeSlotQuery(MONDAY, MONDAY, 60, NINE, NOON, 5))));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different query -> returns false
+        assertFalse(command.equals(new FreeSlotCommand(new FreeSlotQuery(MONDAY, MONDAY, 30, NINE, NOON, 5))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FreeSlotQuery query = new FreeSlotQuery(MONDAY, MONDAY, 60, NINE, NOON, 5);
+        String expected = FreeSlotCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, new FreeSlotCommand(query).toString());
+    }
+}
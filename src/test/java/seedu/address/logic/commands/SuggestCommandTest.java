@@ -0,0 +1,158 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.timesheet.PersonTimesheet;
+import seedu.address.model.person.timesheet.TimesheetBook;
+import seedu.address.model.person.timesheet.TimesheetRepository;
+import seedu.address.model.person.timesheet.WeekIndex;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SuggestCommand}.
+ * In the typical address book, BENSON to GEORGE each have a 1000-1100 lesson on one day of the week of 2025-10-13,
+ * from Monday to Saturday, and ALICE's lesson is in the week before.
+ */
+public class SuggestCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+    private static final LocalDate SUNDAY = MONDAY.plusDays(6);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noTimesheet_suggestsTimesNextToLessons() {
+        SuggestCommand command = new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3);
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUCCESS, 60, ALICE.getName(), 1,
+                "MONDAY 0900-1000 (free in 1 of 1 weeks)\nMONDAY 1100-1200 (free in 1 of 1 weeks)\n"
+                        + "TUESDAY 0900-1000 (free in 1 of 1 weeks)");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_preferredHours_suggestsTimesWithinThem() {
+        SuggestCommand command = new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY,
+                Optional.of(LocalTime.of(11, 0)), Optional.of(LocalTime.of(13, 0)), 2);
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUCCESS, 60, ALICE.getName(), 1,
+                "MONDAY 1100-1200 (free in 1 of 1 weeks)\nTUESDAY 1100-1200 (free in 1 of 1 weeks)");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_timesheetInOneWeek_prefersTimesFreeInEveryWeek() {
+        PersonTimesheet alice = new PersonTimesheet(ALICE.getId(), new WeekIndex(MONDAY));
+        alice.markAvailable(SUNDAY.atTime(14, 0), SUNDAY.atTime(15, 0));
+        model.setTimesheet(alice);
+        expectedModel.setTimesheet(alice);
+
+        SuggestCommand command = new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY.plusDays(7),
+                Optional.empty(), Optional.empty(), 1);
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUCCESS, 60, ALICE.getName(), 2,
+                "SUNDAY 1400-1500 (free in 2 of 2 weeks)");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_availabilityRecordedAndReloaded_suggestsRecordedTimes(@TempDir Path tempDir)
+            throws Exception {
+        new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(new TimeSlot("2025-10-19 1400-1500")), true)
+                .execute(model);
+        Storage storage = new StorageManager(new JsonAddressBookStorage(tempDir.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(tempDir.resolve("userPrefs.json")));
+        storage.saveTimesheets(model.getTimesheetArchive());
+        Model reloadedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), storage,
+                new TimesheetBook(new TimesheetRepository(TimesheetRepository.DEFAULT_CAPACITY,
+                        storage.readTimesheets().get())));
+
+        SuggestCommand command = new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3);
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUCCESS, 60, ALICE.getName(), 1,
+                "SUNDAY 1400-1500 (free in 1 of 1 weeks)");
+        assertCommandSuccess(command, reloadedModel, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noFreeTime_reportsNone() {
+        PersonTimesheet alice = new PersonTimesheet(ALICE.getId(), new WeekIndex(MONDAY));
+        model.setTimesheet(alice);
+        expectedModel.setTimesheet(alice);
+
+        SuggestCommand command = new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3);
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_NO_SUGGESTION, 60, ALICE.getName(), 1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        SuggestCommand command = new SuggestCommand(outOfBoundIndex, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        SuggestCommand command = new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different values -> returns false
+        assertFalse(command.equals(new SuggestCommand(INDEX_SECOND_PERSON, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3)));
+        assertFalse(command.equals(new SuggestCommand(INDEX_FIRST_PERSON, 90, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3)));
+        assertFalse(command.equals(new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY,
+                Optional.of(LocalTime.NOON), Optional.empty(), 3)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SuggestCommand command = new SuggestCommand(INDEX_FIRST_PERSON, 60, MONDAY, SUNDAY, Optional.empty(),
+                Optional.empty(), 3);
+        String expected = SuggestCommand.class.getCanonicalName() + "{index=" + INDEX_FIRST_PERSON
+                + ", minutes=60, startDate=" + MONDAY + ", endDate=" + SUNDAY
+                + ", preferredStart=Optional.empty, preferredEnd=Optional.empty, count=3}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -8,15 +8,18 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AvailabilityCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearPastCommand;
 import seedu.address.logic.commands.DeleteCommand;
@@ -25,16 +28,22 @@ import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterTimeslotCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindCommonCommand;
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.commands.FindTimeslotCommand;
+import seedu.address.logic.commands.FreeSlotCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SuggestCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FreeSlotQuery;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.TimeslotRangePredicate;
 import seedu.address.model.person.TimeslotStartTimeContainsKeywordsPredicate;
+import seedu.address.model.person.timesheet.WeekIndex;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -175,4 +184,38 @@ public class AddressBookParserTest {
                 new TimeslotStartTimeContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findcommon() throws Exception {
+        FindCommonCommand command = (FindCommonCommand) parser.parseCommand(
+                FindCommonCommand.COMMAND_WORD + " 1 w/2025-10-13 d/60");
+        assertEquals(new FindCommonCommand(List.of(INDEX_FIRST_PERSON), Set.of(),
+                new WeekIndex(LocalDate.of(2025, 10, 13)), 60), command);
+    }
+
+    @Test
+    public void parseCommand_availability() throws Exception {
+        List<TimeSlot> timeSlots = List.of(new TimeSlot("2025-10-14 1600-1800"));
+        AvailabilityCommand available = (AvailabilityCommand) parser.parseCommand(
+                AvailabilityCommand.COMMAND_WORD_AVAILABLE + " 1 ts/2025-10-14 1600-1800");
+        assertEquals(new AvailabilityCommand(INDEX_FIRST_PERSON, timeSlots, true), available);
+        AvailabilityCommand unavailable = (AvailabilityCommand) parser.parseCommand(
+                AvailabilityCommand.COMMAND_WORD_UNAVAILABLE + " 1 ts/2025-10-14 1600-1800");
+        assertEquals(new AvailabilityCommand(INDEX_FIRST_PERSON, timeSlots, false), unavailable);
+    }
+
+    @Test
+    public void parseCommand_freeslot() throws Exception {
+        FreeSlotCommand command = (FreeSlotCommand) parser.parseCommand(
+                FreeSlotCommand.COMMAND_WORD + " d/60 sd/2025-10-13 ed/2025-10-17");
+        assertEquals(new FreeSlotCommand(new FreeSlotQuery(LocalDate.of(2025, 10, 13), LocalDate.of(2025, 10, 17),
+                60, Optional.empty(), Optional.empty(), FreeSlotCommand.DEFAULT_COUNT)), command);
+    }
+
+    @Test
+    public void parseCommand_suggest() throws Exception {
+        SuggestCommand command = (SuggestCommand) parser.parseCommand(
+                SuggestCommand.COMMAND_WORD + " 1 d/60 sd/2025-10-13 ed/2025-12-19");
+        assertEquals(new SuggestCommand(INDEX_FIRST_PERSON, 60, LocalDate.of(2025, 10, 13),
+                LocalDate.of(2025, 12, 19), Optional.empty(), Optional.empty(), SuggestCommand.DEFAULT_COUNT), command);
+    }
 }
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AvailabilityCommand;
+import seedu.address.model.person.TimeSlot;
+
+public class AvailabilityCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AvailabilityCommand.MESSAGE_USAGE_AVAILABLE);
+
+    private AvailabilityCommandParser parser = new AvailabilityCommandParser(true);
+
+    @Test
+    public void parse_severalTimeSlots_success() {
+        assertParseSuccess(parser, " 1 ts/2025-10-14 1600-1800 ts/2025-10-16 0900-1000",
+                new AvailabilityCommand(INDEX_FIRST_PERSON, List.of(new TimeSlot("2025-10-14 1600-1800"),
+                        new TimeSlot("2025-10-16 0900-1000")), true));
+    }
+
+    @Test
+    public void parse_unavailable_success() {
+        assertParseSuccess(new AvailabilityCommandParser(false), " 2 ts/2025-10-14 1700-1800",
+                new AvailabilityCommand(INDEX_SECOND_PERSON, List.of(new TimeSlot("2025-10-14 1700-1800")), false));
+    }
+
+    @Test
+    public void parse_missingTimeSlot_failure() {
+        assertParseFailure(parser, " 1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(new AvailabilityCommandParser(false), " 1", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, AvailabilityCommand.MESSAGE_USAGE_UNAVAILABLE));
+    }
+
+    @Test
+    public void parse_invalidIndex_failure() {
+        assertParseFailure(parser, " ts/2025-10-14 1600-1800", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0 ts/2025-10-14 1600-1800", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 2 ts/2025-10-14 1600-1800", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTimeSlot_failure() {
+        assertParseFailure(parser, " 1 ts/2025-10-14 1800-1600", TimeSlot.MESSAGE_CONSTRAINTS);
+    }
+}
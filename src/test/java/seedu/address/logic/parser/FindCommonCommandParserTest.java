@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindCommonCommand;
+import seedu.address.model.person.timesheet.WeekIndex;
+import seedu.address.model.tag.Tag;
+
+public class FindCommonCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommonCommand.MESSAGE_USAGE);
+    private static final WeekIndex WEEK = new WeekIndex(LocalDate.of(2025, 10, 13));
+
+    private FindCommonCommandParser parser = new FindCommonCommandParser();
+
+    @Test
+    public void parse_indexesAndTags_success() {
+        assertParseSuccess(parser, " 1  3 t/Sec3Math w/2025-10-15 d/90",
+                new FindCommonCommand(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                        Set.of(new Tag("Sec3Math")), WEEK, 90));
+    }
+
+    @Test
+    public void parse_tagsOnly_success() {
+        assertParseSuccess(parser, " t/friends w/2025-10-13 d/30",
+                new FindCommonCommand(List.of(), Set.of(new Tag("friends")), WEEK, 30));
+    }
+
+    @Test
+    public void parse_missingPrefixes_failure() {
+        assertParseFailure(parser, " 1 d/30", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 w/2025-10-13", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_noStudents_failure() {
+        assertParseFailure(parser, " w/2025-10-13 d/30", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidIndex_failure() {
+        assertParseFailure(parser, " 1 a w/2025-10-13 d/30", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0 w/2025-10-13 d/30", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDuration_failure() {
+        assertParseFailure(parser, " 1 w/2025-10-13 d/0", ParserUtil.MESSAGE_INVALID_DURATION);
+    }
+
+    @Test
+    public void parse_duplicateWeek_failure() {
+        assertParseFailure(parser, " 1 w/2025-10-13 w/2025-10-20 d/30",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_WEEK));
+    }
+}
@@ -21,6 +21,14 @@ public class FindTagCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_bareOperator_throwsParseException() {
+        assertParseFailure(parser, "friends +",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "- friends",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgs_returnsFindTagCommand() {
         // no leading and trailing whitespaces
@@ -31,4 +39,11 @@ public class FindTagCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n friends \n \t owesMoney  \t", expectedFindTagCommand);
     }
+
+    @Test
+    public void parse_operatorArgs_returnsFindTagCommand() {
+        FindTagCommand expectedFindTagCommand =
+                new FindTagCommand(new TagContainsKeywordsPredicate(Arrays.asList("friends", "+Sec3", "-paid")));
+        assertParseSuccess(parser, "friends +Sec3 -paid", expectedFindTagCommand);
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FreeSlotCommand;
+import seedu.address.model.FreeSlotQuery;
+
+public class FreeSlotCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotCommand.MESSAGE_USAGE);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+    private static final LocalDate FRIDAY = LocalDate.of(2025, 10, 17);
+
+    private FreeSlotCommandParser parser = new FreeSlotCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " d/90 sd/2025-10-13 ed/2025-10-17 st/0900 et/1800 c/3",
+                new FreeSlotCommand(new FreeSlotQuery(MONDAY, FRIDAY, 90, Optional.of(LocalTime.of(9, 0)),
+                        Optional.of(LocalTime.of(18, 0)), 3)));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_success() {
+        assertParseSuccess(parser, " sd/2025-10-13 ed/2025-10-17 d/60",
+                new FreeSlotCommand(new FreeSlotQuery(MONDAY, FRIDAY, 60, Optional.empty(), Optional.empty(),
+                        FreeSlotCommand.DEFAULT_COUNT)));
+        assertParseSuccess(parser, " d/60 sd/2025-10-13 ed/2025-10-17 st/0900",
+                new FreeSlotCommand(new FreeSlotQuery(MONDAY, FRIDAY, 60, Optional.of(LocalTime.of(9, 0)),
+                        Optional.empty(), FreeSlotCommand.DEFAULT_COUNT)));
+    }
+
+    @Test
+    public void parse_missingPrefixes_failure() {
+        assertParseFailure(parser, " sd/2025-10-13 ed/2025-10-17", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " d/60 ed/2025-10-17", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " d/60 sd/2025-10-13", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_failure() {
+        assertParseFailure(parser, " 1 d/60 sd/2025-10-13 ed/2025-10-17", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " d/0 sd/2025-10-13 ed/2025-10-17", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " d/60 sd/2025-10-13 ed/2025-10-17 c/0", ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_invalidRanges_failure() {
+        assertParseFailure(parser, " d/60 sd/2025-10-17 ed/2025-10-13", FreeSlotQuery.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " d/60 sd/2025-10-13 ed/2025-10-17 st/1800 et/0900",
+                FreeSlotQuery.MESSAGE_INVALID_WORKING_HOURS);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " d/60 d/30 sd/2025-10-13 ed/2025-10-17",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DURATION));
+    }
+}
@@ -275,4 +275,33 @@ public class ParserUtilTest {
         LocalTime expectedTime = LocalTime.of(9, 0);
         assertEquals(expectedTime, ParserUtil.parseTime(timeWithWhitespace));
     }
+
+    @Test
+    public void parseDuration_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("-30"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("1.5"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration(
+                String.valueOf(ParserUtil.MAX_DURATION_MINUTES + 1)));
+    }
+
+    @Test
+    public void parseDuration_validValue_returnsMinutes() throws Exception {
+        assertEquals(90, ParserUtil.parseDuration(WHITESPACE + "90" + WHITESPACE));
+        assertEquals(ParserUtil.MAX_DURATION_MINUTES,
+                ParserUtil.parseDuration(String.valueOf(ParserUtil.MAX_DURATION_MINUTES)));
+    }
+
+    @Test
+    public void parseCount_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("three"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount(String.valueOf(ParserUtil.MAX_COUNT + 1)));
+    }
+
+    @Test
+    public void parseCount_validValue_returnsCount() throws Exception {
+        assertEquals(3, ParserUtil.parseCount(WHITESPACE + "3" + WHITESPACE));
+        assertEquals(ParserUtil.MAX_COUNT, ParserUtil.parseCount(String.valueOf(ParserUtil.MAX_COUNT)));
+    }
 }
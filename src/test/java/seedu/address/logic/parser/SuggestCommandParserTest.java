@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.model.FreeSlotQuery;
+
+public class SuggestCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE);
+    private static final LocalDate TERM_START = LocalDate.of(2025, 10, 13);
+    private static final LocalDate TERM_END = LocalDate.of(2025, 12, 19);
+
+    private SuggestCommandParser parser = new SuggestCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " 2 d/90 sd/2025-10-13 ed/2025-12-19 st/1400 et/1900 c/5",
+                new SuggestCommand(INDEX_SECOND_PERSON, 90, TERM_START, TERM_END, Optional.of(LocalTime.of(14, 0)),
+                        Optional.of(LocalTime.of(19, 0)), 5));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_success() {
+        assertParseSuccess(parser, " 1 d/60 sd/2025-10-13 ed/2025-12-19",
+                new SuggestCommand(INDEX_FIRST_PERSON, 60, TERM_START, TERM_END, Optional.empty(),
+                        Optional.empty(), SuggestCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_invalidOrMissingIndex_failure() {
+        assertParseFailure(parser, " d/60 sd/2025-10-13 ed/2025-12-19", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0 d/60 sd/2025-10-13 ed/2025-12-19", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 2 d/60 sd/2025-10-13 ed/2025-12-19", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_missingPrefixes_failure() {
+        assertParseFailure(parser, " 1 sd/2025-10-13 ed/2025-12-19", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 d/60 ed/2025-12-19", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 d/60 sd/2025-10-13", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " 1 d/0 sd/2025-10-13 ed/2025-12-19", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " 1 d/60 sd/2025-10-13 ed/2025-12-19 c/0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 1 d/60 sd/2025-12-19 ed/2025-10-13", FreeSlotQuery.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " 1 d/60 sd/2025-10-13 ed/2025-12-19 st/1900 et/1400",
+                SuggestCommandParser.MESSAGE_INVALID_PREFERRED_HOURS);
+        assertParseFailure(parser, " 1 d/60 sd/2025-10-13 ed/2025-12-19 et/0000",
+                SuggestCommandParser.MESSAGE_INVALID_PREFERRED_HOURS);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " 1 d/60 sd/2025-10-13 sd/2025-10-20 ed/2025-12-19",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_START_DATE));
+    }
+}
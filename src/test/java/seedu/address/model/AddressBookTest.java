@@ -6,19 +6,28 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.timesheet.FreeWindow;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -172,6 +181,49 @@ public class AddressBookTest {
         assertEquals(expectedAddressBook, addressBook);
     }
 
+    @Test
+    public void findByPhone_tracksPersonChanges() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), addressBook.findByPhone(ALICE.getPhone()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("81112222").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.findByPhone(ALICE.getPhone()).isEmpty());
+        assertEquals(Collections.singletonList(editedAlice), addressBook.findByPhone(editedAlice.getPhone()));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.findByPhone(editedAlice.getPhone()).isEmpty());
+    }
+
+    @Test
+    public void findByEmail_ignoresCase() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singletonList(BENSON),
+                addressBook.findByEmail(new Email(BENSON.getEmail().value.toUpperCase())));
+        assertTrue(addressBook.findByEmail(new Email("nobody@example.com")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsEndedBefore_returnsOnlyEndedLessons() {
+        addressBook.resetData(getTypicalAddressBook());
+        // ALICE 2025-10-12 1600-1800, BENSON 2025-10-13 1000-1100, CARL 2025-10-14 1000-1100
+        assertEquals(Collections.singletonList(ALICE),
+                addressBook.getPersonsEndedBefore(LocalDateTime.of(2025, 10, 13, 11, 0)));
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                addressBook.getPersonsEndedBefore(LocalDateTime.of(2025, 10, 13, 11, 1)));
+        assertTrue(addressBook.getPersonsEndedBefore(LocalDateTime.of(2025, 10, 12, 17, 0)).isEmpty());
+    }
+
+    @Test
+    public void findFreeSlots_typicalLessons_returnsGapsBetweenThem() {
+        addressBook.resetData(getTypicalAddressBook());
+        LocalDate monday = LocalDate.of(2025, 10, 13);
+        FreeSlotQuery query = new FreeSlotQuery(monday, monday, 60, Optional.of(LocalTime.of(9, 0)),
+                Optional.of(LocalTime.of(12, 0)), 5);
+        assertEquals(Arrays.asList(new FreeWindow(monday.atTime(9, 0), monday.atTime(10, 0)),
+                new FreeWindow(monday.atTime(11, 0), monday.atTime(12, 0))), addressBook.findFreeSlots(query));
+    }
+
     @Test
     public void equals() {
         addressBook.addPerson(ALICE);
@@ -212,4 +264,15 @@ public class AddressBookTest {
         }
     }
 
+
+    @Test
+    public void getPersonsBetween_returnsPersonsOnDatesInRange() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(List.of(BENSON, CARL),
+                typicalAddressBook.getPersonsBetween(LocalDate.of(2025, 10, 13), LocalDate.of(2025, 10, 14)));
+        assertEquals(List.of(ALICE),
+                typicalAddressBook.getPersonsBetween(LocalDate.of(2025, 10, 12), LocalDate.of(2025, 10, 12)));
+        assertTrue(typicalAddressBook.getPersonsBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))
+                .isEmpty());
+    }
 }
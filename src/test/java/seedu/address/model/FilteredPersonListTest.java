@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private static final Person ZED_MEIER = new PersonBuilder().withName("Zed Meier").withPhone("81234567")
+            .withEmail("zed@example.com").withTimeSlot("2025-10-14 0800-0900").build();
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final FilteredPersonList filteredPersons = new FilteredPersonList(addressBook);
+
+    @Test
+    public void constructor_showsEveryPerson() {
+        assertEquals(getTypicalPersons(), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                filteredPersons.asUnmodifiableObservableList().remove(0));
+    }
+
+    @Test
+    public void setPredicate_indexedPredicate_showsMatchesInListOrder() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Meier", "Benson")));
+        assertEquals(List.of(BENSON, DANIEL), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_otherPredicate_showsMatchesInListOrder() {
+        filteredPersons.setPredicate(person -> person.getName().fullName.endsWith("z"));
+        assertEquals(List.of(CARL, FIONA), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_showAll_showsEveryPerson() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Meier")));
+        filteredPersons.setPredicate(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(getTypicalPersons(), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addPerson_matchingPerson_insertedInListOrder() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Meier")));
+        addressBook.addPerson(ZED_MEIER);
+        assertEquals(List.of(BENSON, ZED_MEIER, DANIEL), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addPerson_otherPerson_notShown() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Alice")));
+        addressBook.addPerson(ZED_MEIER);
+        assertEquals(List.of(ALICE), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removePerson_shownPerson_removed() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Meier")));
+        addressBook.removePerson(BENSON);
+        assertEquals(List.of(DANIEL), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedOutOfPredicate_removed() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Meier")));
+        addressBook.setPerson(DANIEL, new PersonBuilder(DANIEL).withName("Daniel Kurz").build());
+        assertEquals(List.of(BENSON), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedIntoPredicate_insertedInListOrder() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Meier")));
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        addressBook.setPerson(CARL, editedCarl);
+        assertEquals(List.of(BENSON, editedCarl, DANIEL), filteredPersons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void resetData_keepsPredicate() {
+        filteredPersons.setPredicate(new NameContainsKeywordsPredicate(List.of("Meier")));
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        newData.addPerson(ZED_MEIER);
+        addressBook.resetData(newData);
+        assertEquals(List.of(ZED_MEIER), filteredPersons.asUnmodifiableObservableList());
+    }
+}
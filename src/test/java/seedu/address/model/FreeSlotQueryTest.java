@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.timesheet.FreeWindow;
+import seedu.address.testutil.PersonBuilder;
+
+public class FreeSlotQueryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+    private static final Optional<LocalTime> NINE = Optional.of(LocalTime.of(9, 0));
+    private static final Optional<LocalTime> SIX = Optional.of(LocalTime.of(18, 0));
+
+    private final ScheduleIndex schedule = new ScheduleIndex();
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FreeSlotQuery.MESSAGE_INVALID_DATE_RANGE, () ->
+                new FreeSlotQuery(MONDAY, MONDAY.minusDays(1), 60, Optional.empty(), Optional.empty(), 1));
+        assertThrows(IllegalArgumentException.class, FreeSlotQuery.MESSAGE_INVALID_WORKING_HOURS, () ->
+                new FreeSlotQuery(MONDAY, MONDAY, 60, SIX, NINE, 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FreeSlotQuery(MONDAY, MONDAY, 0, Optional.empty(), Optional.empty(), 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FreeSlotQuery(MONDAY, MONDAY, 60, Optional.empty(), Optional.empty(), 0));
+    }
+
+    @Test
+    public void findIn_workingHours_clipsGapsToEachDay() {
+        addLesson("2025-10-13 1000-1200");
+        addLesson("2025-10-14 0800-1700");
+        FreeSlotQuery query = new FreeSlotQuery(MONDAY, MONDAY.plusDays(1), 60, NINE, SIX, 10);
+        assertEquals(List.of(window(MONDAY, 9, 0, MONDAY, 10, 0), window(MONDAY, 12, 0, MONDAY, 18, 0),
+                window(MONDAY.plusDays(1), 17, 0, MONDAY.plusDays(1), 18, 0)), query.findIn(schedule));
+    }
+
+    @Test
+    public void findIn_noWorkingHours_windowsRunAcrossMidnight() {
+        addLesson("2025-10-13 2200-2300");
+        FreeSlotQuery query = new FreeSlotQuery(MONDAY, MONDAY.plusDays(1), 60, Optional.empty(),
+                Optional.empty(), 10);
+        assertEquals(List.of(window(MONDAY, 0, 0, MONDAY, 22, 0),
+                window(MONDAY, 23, 0, MONDAY.plusDays(2), 0, 0)), query.findIn(schedule));
+    }
+
+    @Test
+    public void findIn_limitReached_returnsFirstWindowsOnly() {
+        addLesson("2025-10-13 1000-1100");
+        FreeSlotQuery query = new FreeSlotQuery(MONDAY, MONDAY.plusDays(6), 30, NINE, SIX, 3);
+        assertEquals(List.of(window(MONDAY, 9, 0, MONDAY, 10, 0), window(MONDAY, 11, 0, MONDAY, 18, 0),
+                window(MONDAY.plusDays(1), 9, 0, MONDAY.plusDays(1), 18, 0)), query.findIn(schedule));
+    }
+
+    @Test
+    public void findIn_gapsTooShort_returnsEmpty() {
+        addLesson("2025-10-13 0900-1300");
+        addLesson("2025-10-13 1330-1800");
+        assertTrue(new FreeSlotQuery(MONDAY, MONDAY, 60, NINE, SIX, 5).findIn(schedule).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotQuery query = new FreeSlotQuery(MONDAY, MONDAY, 60, NINE, SIX, 5);
+
+        // same values -> returns true
+        assertTrue(query.equals(new FreeSlotQuery(MONDAY, MONDAY, 60, NINE, SIX, 5)));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different values -> returns false
+        assertFalse(query.equals(new FreeSlotQuery(MONDAY, MONDAY, 30, NINE, SIX, 5)));
+        assertFalse(query.equals(new FreeSlotQuery(MONDAY, MONDAY, 60, Optional.empty(), SIX, 5)));
+        assertFalse(query.equals(new FreeSlotQuery(MONDAY, MONDAY, 60, NINE, SIX, 4)));
+    }
+
+    private void addLesson(String timeSlot) {
+        schedule.add(new PersonBuilder().withName("Lesson " + timeSlot).withTimeSlot(timeSlot).build());
+    }
+
+    private static FreeWindow window(LocalDate startDate, int startHour, int startMinute,
+                                     LocalDate endDate, int endHour, int endMinute) {
+        return new FreeWindow(startDate.atTime(startHour, startMinute), endDate.atTime(endHour, endMinute));
+    }
+}
@@ -11,7 +11,10 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,8 +23,11 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeslotStartTimeContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.TimeSlotConflictException;
+import seedu.address.model.person.timesheet.TimesheetBook;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -211,6 +217,131 @@ public class ModelManagerTest {
         assertEquals(BENSON.getPhone(), personInList.getPhone());
     }
 
+    @Test
+    public void updateFilteredPersonList_timeslotPredicate_tracksLaterChanges() {
+        modelManager.updateFilteredPersonList(new TimeslotStartTimeContainsKeywordsPredicate(
+                Collections.singletonList("2025-10-12")));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        // persons edited after filtering are still tested against the filter
+        Person movedBenson = new PersonBuilder(BENSON).withTimeSlot("2025-10-12 0800-0900").build();
+        modelManager.setPerson(BENSON, movedBenson);
+        assertEquals(Arrays.asList(movedBenson, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withTimeSlot("2025-10-20 1600-1800").build());
+        assertEquals(Collections.singletonList(movedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_stagedChanges_appliedTogether() {
+        Person aliceReplacement = new PersonBuilder().withName("Replacement").withPhone("81230000")
+                .withEmail("replacement@example.com").withTimeSlot(ALICE.getTimeSlot().toString()).build();
+        Person movedBenson = new PersonBuilder(BENSON).withTimeSlot("2025-10-01 0800-0900").build();
+
+        modelManager.batch(tx -> {
+            tx.deletePerson(ALICE);
+            // ALICE's slot is free once her deletion is staged
+            tx.addPerson(aliceReplacement);
+            tx.setPerson(BENSON, movedBenson);
+        });
+
+        assertEquals(Arrays.asList(movedBenson, aliceReplacement), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.getStorage().addSlot(aliceReplacement.getTimeSlot()));
+        assertTrue(modelManager.getStorage().addSlot(BENSON.getTimeSlot()));
+    }
+
+    @Test
+    public void batch_conflictWithStagedAddition_rejectsOnlyThatChange() {
+        Person first = new PersonBuilder().withName("First").withPhone("81230001")
+                .withEmail("first@example.com").withTimeSlot("2025-10-20 0800-0900").build();
+        Person second = new PersonBuilder().withName("Second").withPhone("81230002")
+                .withEmail("second@example.com").withTimeSlot("2025-10-20 0830-0930").build();
+
+        modelManager.batch(tx -> {
+            tx.addPerson(first);
+            assertThrows(TimeSlotConflictException.class, () -> tx.addPerson(second));
+            assertThrows(DuplicatePersonException.class, () -> tx.addPerson(first));
+            assertThrows(PersonNotFoundException.class, () -> tx.deletePerson(second));
+        });
+
+        assertEquals(Arrays.asList(ALICE, BENSON, first), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void batch_readdDeletedDetails_allowedUntilAddedAgain() {
+        Person movedAlice = new PersonBuilder(ALICE).withTimeSlot("2025-10-20 0800-0900").build();
+
+        modelManager.batch(tx -> {
+            assertThrows(DuplicatePersonException.class, () -> tx.addPerson(movedAlice));
+            tx.deletePerson(ALICE);
+            tx.addPerson(movedAlice);
+            assertThrows(DuplicatePersonException.class, () -> tx.addPerson(ALICE));
+        });
+
+        assertEquals(Arrays.asList(BENSON, movedAlice), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void batch_changesThrow_appliesNothing() {
+        Person movedBenson = new PersonBuilder(BENSON).withTimeSlot("2025-10-01 0800-0900").build();
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(tx -> {
+            tx.deletePerson(ALICE);
+            tx.setPerson(BENSON, movedBenson);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.getStorage().addSlot(ALICE.getTimeSlot()));
+        assertTrue(modelManager.getStorage().addSlot(movedBenson.getTimeSlot()));
+    }
+
+    @Test
+    public void batch_failedReplacement_keepsTarget() {
+        Person movedBenson = new PersonBuilder(BENSON).withTimeSlot(ALICE.getTimeSlot().toString()).build();
+        modelManager.batch(tx -> assertThrows(TimeSlotConflictException.class, () ->
+                tx.setPerson(BENSON, movedBenson)));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+
+        modelManager.batch(tx -> tx.deletePerson(BENSON));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void getPersonsAvailable_markedPersons_returnsThoseAvailable() {
+        LocalDateTime start = LocalDateTime.of(2025, 10, 14, 16, 0);
+        modelManager.markAvailable(ALICE.getId(), start, start.plusHours(2));
+        modelManager.markAvailable(BENSON.getId(), start.plusHours(1), start.plusHours(3));
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(modelManager.getPersonsAvailable(start.plusHours(1),
+                start.plusHours(2))));
+
+        modelManager.markUnavailable(BENSON.getId(), start.plusHours(1), start.plusHours(2));
+        assertEquals(Arrays.asList(ALICE), modelManager.getPersonsAvailable(start.plusHours(1),
+                start.plusHours(2)));
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(Collections.emptyList(), modelManager.getPersonsAvailable(start, start.plusHours(2)));
+    }
+
+    @Test
+    public void constructor_timesheetsOfUnknownPersons_dropped() {
+        LocalDateTime start = LocalDateTime.of(2025, 10, 14, 16, 0);
+        TimesheetBook timesheets = new TimesheetBook();
+        timesheets.markAvailable(ALICE.getId(), start, start.plusHours(1));
+        timesheets.markAvailable(BOB.getId(), start, start.plusHours(1));
+        modelManager = new ModelManager(addressBook, userPrefs, storage, timesheets);
+
+        assertEquals(Set.of(ALICE.getId()), modelManager.getTimesheetArchive().getPersonIds());
+        assertEquals(Arrays.asList(ALICE), modelManager.getPersonsAvailable(start, start.plusHours(1)));
+    }
+
+    @Test
+    public void setAddressBook_dropsTimesheetsOfRemovedPersons() {
+        LocalDateTime start = LocalDateTime.of(2025, 10, 14, 16, 0);
+        modelManager.markAvailable(ALICE.getId(), start, start.plusHours(1));
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.getTimesheetArchive().getPersonIds().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
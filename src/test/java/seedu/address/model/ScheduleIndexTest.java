@@ -0,0 +1,210 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleIndexTest {
+
+    private final ScheduleIndex scheduleIndex = new ScheduleIndex();
+
+    @Test
+    public void findFirstOverlap_nullTimeSlot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> scheduleIndex.findFirstOverlap(null));
+    }
+
+    @Test
+    public void findFirstOverlap_emptyIndex_returnsEmpty() {
+        assertFalse(scheduleIndex.findFirstOverlap(ALICE.getTimeSlot()).isPresent());
+    }
+
+    @Test
+    public void findFirstOverlap_overlappingSlot_returnsPerson() {
+        scheduleIndex.add(ALICE); // 2025-10-12 1600-1800
+        scheduleIndex.add(BENSON); // 2025-10-13 1000-1100
+        assertEquals(ALICE, scheduleIndex.findFirstOverlap(new TimeSlot("2025-10-12 1700-1900")).get());
+        assertEquals(BENSON, scheduleIndex.findFirstOverlap(new TimeSlot("2025-10-13 0930-1001")).get());
+    }
+
+    @Test
+    public void findFirstOverlap_adjacentSlot_returnsEmpty() {
+        scheduleIndex.add(ALICE);
+        assertFalse(scheduleIndex.findFirstOverlap(new TimeSlot("2025-10-12 1800-1900")).isPresent());
+        assertFalse(scheduleIndex.findFirstOverlap(new TimeSlot("2025-10-12 1500-1600")).isPresent());
+    }
+
+    @Test
+    public void findFirstOverlap_sameTimeDifferentDate_returnsEmpty() {
+        scheduleIndex.add(ALICE);
+        assertFalse(scheduleIndex.findFirstOverlap(new TimeSlot("2025-10-13 1600-1800")).isPresent());
+    }
+
+    @Test
+    public void findFirstOverlap_withExclusion_skipsExcludedPerson() {
+        scheduleIndex.add(ALICE);
+        scheduleIndex.add(HOON); // same slot as ALICE
+        assertEquals(HOON, scheduleIndex.findFirstOverlap(ALICE.getTimeSlot(), ALICE::hasSameDetails).get());
+        scheduleIndex.remove(HOON);
+        assertFalse(scheduleIndex.findFirstOverlap(ALICE.getTimeSlot(), ALICE::hasSameDetails).isPresent());
+    }
+
+    @Test
+    public void findFirstOverlap_multipleOverlaps_returnsEarliestStart() {
+        Person late = withSlot("Late", "2025-10-12 1500-1700");
+        Person early = withSlot("Early", "2025-10-12 0900-1600");
+        scheduleIndex.add(late);
+        scheduleIndex.add(early);
+        assertEquals(early, scheduleIndex.findFirstOverlap(new TimeSlot("2025-10-12 1530-1545")).get());
+    }
+
+    @Test
+    public void remove_personNotIndexed_doesNothing() {
+        scheduleIndex.add(ALICE);
+        scheduleIndex.remove(BENSON);
+        assertEquals(1, scheduleIndex.size());
+    }
+
+    @Test
+    public void replace_movesPersonToNewSlot() {
+        scheduleIndex.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTimeSlot("2025-10-20 0800-0900").build();
+        scheduleIndex.replace(ALICE, editedAlice);
+        assertFalse(scheduleIndex.findFirstOverlap(ALICE.getTimeSlot()).isPresent());
+        assertEquals(editedAlice, scheduleIndex.findFirstOverlap(editedAlice.getTimeSlot()).get());
+        assertEquals(1, scheduleIndex.size());
+    }
+
+    @Test
+    public void add_personWithoutTimeSlot_notIndexed() {
+        Person template = new PersonBuilder().build();
+        scheduleIndex.add(new Person(template.getName(), template.getPhone(), template.getEmail(),
+                template.getAddress(), null, template.getTags()));
+        assertEquals(0, scheduleIndex.size());
+    }
+
+    @Test
+    public void setAll_sortedAndUnsortedInput_indexesEveryPerson() {
+        Person early = withSlot("Early", "2025-10-12 0900-1000");
+        Person sameSlot = withSlot("Same Slot", "2025-10-12 0900-1000");
+        Person late = withSlot("Late", "2025-10-13 0900-1000");
+
+        scheduleIndex.setAll(Arrays.asList(early, sameSlot, late));
+        assertEquals(3, scheduleIndex.size());
+        assertEquals(Arrays.asList(early, sameSlot), scheduleIndex.findAllOverlaps(early.getTimeSlot()));
+
+        scheduleIndex.setAll(Arrays.asList(late, early));
+        assertEquals(2, scheduleIndex.size());
+        assertEquals(Arrays.asList(early), scheduleIndex.findAllOverlaps(new TimeSlot("2025-10-12 0000-2359")));
+        assertEquals(late, scheduleIndex.findFirstOverlap(late.getTimeSlot()).get());
+    }
+
+    @Test
+    public void findAllOverlaps_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int day = 1 + random.nextInt(20);
+            int start = random.nextInt(22 * 60);
+            int end = start + 1 + random.nextInt(120);
+            Person person = withSlot("Person " + i, String.format("2025-10-%02d %s-%s", day,
+                    hhmm(start), hhmm(Math.min(end, 23 * 60 + 59))));
+            persons.add(person);
+            scheduleIndex.add(person);
+        }
+        Collections.shuffle(persons, random);
+        for (Person removed : persons.subList(0, 100)) {
+            scheduleIndex.remove(removed);
+        }
+        List<Person> remaining = persons.subList(100, persons.size());
+        assertEquals(remaining.size(), scheduleIndex.size());
+
+        for (String query : Arrays.asList("2025-10-05 0000-2359", "2025-10-10 1200-1300", "2025-10-21 0800-0900")) {
+            TimeSlot querySlot = new TimeSlot(query);
+            List<Person> expected = remaining.stream()
+                    .filter(person -> person.getTimeSlot().overlaps(querySlot))
+                    .collect(Collectors.toList());
+            List<Person> actual = scheduleIndex.findAllOverlaps(querySlot);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
+    @Test
+    public void forEachGap_lessonsInRange_visitsGapsInOrder() {
+        scheduleIndex.add(withSlot("Late", "2025-10-12 1500-1700"));
+        scheduleIndex.add(withSlot("Early", "2025-10-12 0900-1000"));
+        scheduleIndex.add(withSlot("Nested", "2025-10-12 0915-0945"));
+        List<long[]> gaps = new ArrayList<>();
+        scheduleIndex.forEachGap(minute("2025-10-12", 0), minute("2025-10-13", 0), (start, end) ->
+                gaps.add(new long[] {start, end}));
+        assertEquals(3, gaps.size());
+        assertGap(gaps.get(0), minute("2025-10-12", 0), minute("2025-10-12", 9 * 60));
+        assertGap(gaps.get(1), minute("2025-10-12", 10 * 60), minute("2025-10-12", 15 * 60));
+        assertGap(gaps.get(2), minute("2025-10-12", 17 * 60), minute("2025-10-13", 0));
+    }
+
+    @Test
+    public void forEachGap_lessonStraddlesRangeStart_gapStartsAfterLesson() {
+        scheduleIndex.add(withSlot("Straddling", "2025-10-12 0900-1100"));
+        List<long[]> gaps = new ArrayList<>();
+        scheduleIndex.forEachGap(minute("2025-10-12", 10 * 60), minute("2025-10-12", 12 * 60), (start, end) ->
+                gaps.add(new long[] {start, end}));
+        assertEquals(1, gaps.size());
+        assertGap(gaps.get(0), minute("2025-10-12", 11 * 60), minute("2025-10-12", 12 * 60));
+    }
+
+    @Test
+    public void forEachGap_rangeFullyBooked_visitsNothing() {
+        scheduleIndex.add(withSlot("Booked", "2025-10-12 0900-1100"));
+        List<long[]> gaps = new ArrayList<>();
+        scheduleIndex.forEachGap(minute("2025-10-12", 9 * 60), minute("2025-10-12", 11 * 60), (start, end) ->
+                gaps.add(new long[] {start, end}));
+        assertTrue(gaps.isEmpty());
+    }
+
+    @Test
+    public void forEachGap_visitorReturnsFalse_stopsSweep() {
+        scheduleIndex.add(withSlot("First", "2025-10-12 0900-1000"));
+        scheduleIndex.add(withSlot("Second", "2025-10-12 1100-1200"));
+        List<long[]> gaps = new ArrayList<>();
+        scheduleIndex.forEachGap(minute("2025-10-12", 0), minute("2025-10-13", 0), (start, end) ->
+                gaps.add(new long[] {start, end}) && gaps.size() < 2);
+        assertEquals(2, gaps.size());
+        assertGap(gaps.get(1), minute("2025-10-12", 10 * 60), minute("2025-10-12", 11 * 60));
+    }
+
+    private static long minute(String date, int minuteOfDay) {
+        return LocalDate.parse(date).toEpochDay() * 24 * 60 + minuteOfDay;
+    }
+
+    private static void assertGap(long[] gap, long expectedStart, long expectedEnd) {
+        assertEquals(expectedStart, gap[0]);
+        assertEquals(expectedEnd, gap[1]);
+    }
+
+    private static Person withSlot(String name, String timeSlot) {
+        return new PersonBuilder().withName(name).withTimeSlot(timeSlot).build();
+    }
+
+    private static String hhmm(int minuteOfDay) {
+        return String.format("%02d%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ContactIndexTest {
+
+    private final ContactIndex contactIndex = new ContactIndex();
+
+    @Test
+    public void findByPhone_nullPhone_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> contactIndex.findByPhone(null));
+    }
+
+    @Test
+    public void findByPhone_sharedPhone_returnsAllPersons() {
+        Person sharingPhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        contactIndex.setAll(Arrays.asList(ALICE, sharingPhone));
+        assertEquals(Arrays.asList(ALICE, sharingPhone), contactIndex.findByPhone(ALICE.getPhone()));
+
+        contactIndex.remove(ALICE);
+        assertEquals(Collections.singletonList(sharingPhone), contactIndex.findByPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void findByEmail_differentCase_returnsPerson() {
+        contactIndex.add(ALICE);
+        assertEquals(Collections.singletonList(ALICE),
+                contactIndex.findByEmail(new Email(ALICE.getEmail().value.toUpperCase())));
+    }
+
+    @Test
+    public void findByEmail_differentCaseUnderTurkishLocale_returnsPerson() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            Person kim = new PersonBuilder().withName("Kim").withEmail("kim@example.com").build();
+            contactIndex.add(kim);
+            assertEquals(Collections.singletonList(kim), contactIndex.findByEmail(new Email("KIM@EXAMPLE.COM")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void replace_updatesPhoneAndEmail() {
+        contactIndex.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("81112222").withEmail("alice@nus.edu.sg").build();
+        contactIndex.replace(ALICE, editedAlice);
+        assertTrue(contactIndex.findByPhone(ALICE.getPhone()).isEmpty());
+        assertTrue(contactIndex.findByEmail(ALICE.getEmail()).isEmpty());
+        assertEquals(Collections.singletonList(editedAlice), contactIndex.findByPhone(editedAlice.getPhone()));
+        assertEquals(Collections.singletonList(editedAlice), contactIndex.findByEmail(editedAlice.getEmail()));
+    }
+
+    @Test
+    public void findByPhone_modifyResult_throwsUnsupportedOperationException() {
+        contactIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> contactIndex.findByPhone(ALICE.getPhone()).clear());
+    }
+}
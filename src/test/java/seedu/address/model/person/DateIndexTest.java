@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class DateIndexTest {
+
+    private static final LocalDate ALICE_DATE = LocalDate.of(2025, 10, 12);
+    private static final LocalDate BENSON_DATE = LocalDate.of(2025, 10, 13);
+
+    private final DateIndex dateIndex = new DateIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dateIndex.add(null));
+    }
+
+    @Test
+    public void add_personsOnSameDateAndTime_groupedTogether() {
+        dateIndex.add(ALICE);
+        dateIndex.add(HOON); // same timeslot as ALICE
+        assertEquals(Arrays.asList(ALICE, HOON), dateIndex.getDay(ALICE_DATE).get(LocalTime.of(16, 0)));
+    }
+
+    @Test
+    public void add_personWithoutTimeSlot_notIndexed() {
+        Person template = new PersonBuilder().build();
+        dateIndex.add(new Person(template.getName(), template.getPhone(), template.getEmail(),
+                template.getAddress(), null, template.getTags()));
+        assertTrue(dateIndex.getDays(Optional.empty(), Optional.empty()).isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonOnDate_removesDate() {
+        dateIndex.add(ALICE);
+        dateIndex.add(BENSON);
+        dateIndex.remove(ALICE);
+        assertTrue(dateIndex.getDay(ALICE_DATE).isEmpty());
+        assertEquals(Collections.singleton(BENSON_DATE),
+                dateIndex.getDays(Optional.empty(), Optional.empty()).keySet());
+    }
+
+    @Test
+    public void remove_personNotIndexed_doesNothing() {
+        dateIndex.add(ALICE);
+        dateIndex.remove(BENSON);
+        dateIndex.remove(HOON);
+        assertEquals(Collections.singletonList(ALICE), dateIndex.getDay(ALICE_DATE).get(LocalTime.of(16, 0)));
+    }
+
+    @Test
+    public void replace_movesPersonToNewDate() {
+        dateIndex.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTimeSlot("2025-10-20 0800-0900").build();
+        dateIndex.replace(ALICE, editedAlice);
+        assertTrue(dateIndex.getDay(ALICE_DATE).isEmpty());
+        assertEquals(Collections.singletonList(editedAlice),
+                dateIndex.getDay(LocalDate.of(2025, 10, 20)).get(LocalTime.of(8, 0)));
+    }
+
+    @Test
+    public void getDays_boundedRange_returnsInclusiveDates() {
+        dateIndex.setAll(Arrays.asList(ALICE, BENSON, CARL)); // 10-12, 10-13, 10-14
+        List<LocalDate> dates = List.copyOf(dateIndex.getDays(Optional.of(BENSON_DATE),
+                Optional.of(LocalDate.of(2025, 10, 14))).keySet());
+        assertEquals(Arrays.asList(BENSON_DATE, LocalDate.of(2025, 10, 14)), dates);
+        assertEquals(Arrays.asList(ALICE_DATE, BENSON_DATE),
+                List.copyOf(dateIndex.getDays(Optional.empty(), Optional.of(BENSON_DATE)).keySet()));
+    }
+
+    @Test
+    public void getDays_startAfterEnd_returnsEmpty() {
+        dateIndex.setAll(Arrays.asList(ALICE, BENSON));
+        assertTrue(dateIndex.getDays(Optional.of(BENSON_DATE), Optional.of(ALICE_DATE)).isEmpty());
+    }
+
+    @Test
+    public void getDays_readOnly() {
+        dateIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                dateIndex.getDays(Optional.empty(), Optional.empty()).remove(ALICE_DATE));
+        assertThrows(UnsupportedOperationException.class, () ->
+                dateIndex.getDay(ALICE_DATE).remove(LocalTime.of(16, 0)));
+    }
+}
@@ -7,10 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class NameContainsKeywordsPredicateTest {
 
@@ -109,4 +111,25 @@ public class NameContainsKeywordsPredicateTest {
         String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void findMatches_sameResultAsTest() {
+        NameIndex index = new NameIndex();
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        index.setAll(persons);
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("alice"),
+                Arrays.asList("MEI", "kurz"),
+                Arrays.asList("e", "ee"),
+                Arrays.asList("elle", "ell"),
+                Collections.singletonList("ePa"),
+                Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            List<Person> expected = persons.stream().filter(predicate).collect(Collectors.toList());
+            List<Person> actual = predicate.findMatches(index);
+            assertEquals(expected.size(), actual.size(), keywords.toString());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
 }
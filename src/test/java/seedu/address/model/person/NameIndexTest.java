@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.add(null));
+    }
+
+    @Test
+    public void findCandidates_substringOfWord_found() {
+        nameIndex.setAll(Arrays.asList(ALICE, BENSON, CARL)); // Alice Pauline, Benson Meier, Carl Kurz
+        assertEquals(Collections.singletonList(ALICE), nameIndex.findCandidates("PAUL"));
+        assertEquals(Collections.singletonList(BENSON), nameIndex.findCandidates("eie"));
+        assertEquals(Arrays.asList(BENSON, CARL), nameIndex.findCandidates("r"));
+        assertEquals(Collections.singletonList(CARL), nameIndex.findCandidates("ku"));
+    }
+
+    @Test
+    public void findCandidates_missingGram_returnsEmpty() {
+        nameIndex.setAll(Arrays.asList(ALICE, BENSON));
+        assertTrue(nameIndex.findCandidates("xyz").isEmpty());
+        assertTrue(nameIndex.findCandidates("").isEmpty());
+    }
+
+    @Test
+    public void findCandidates_gramsAcrossWords_notFound() {
+        nameIndex.add(ALICE);
+        // "ep" only appears across the space between "Alice" and "Pauline"
+        assertTrue(nameIndex.findCandidates("ep").isEmpty());
+    }
+
+    @Test
+    public void remove_personNoLongerFound() {
+        nameIndex.setAll(Arrays.asList(ALICE, BENSON));
+        nameIndex.remove(ALICE);
+        nameIndex.remove(CARL);
+        assertTrue(nameIndex.findCandidates("alice").isEmpty());
+        assertEquals(Collections.singletonList(BENSON), nameIndex.findCandidates("benson"));
+    }
+
+    @Test
+    public void replace_updatesName() {
+        nameIndex.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        nameIndex.replace(ALICE, editedAlice);
+        assertTrue(nameIndex.findCandidates("pauline").isEmpty());
+        assertEquals(Collections.singletonList(editedAlice), nameIndex.findCandidates("tan"));
+    }
+
+    @Test
+    public void findCandidates_includesEveryMatch() {
+        Random random = new Random(2103);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Person person = new PersonBuilder().withName(randomWord(random) + " " + randomWord(random)).build();
+            persons.add(person);
+            nameIndex.add(person);
+        }
+        for (Person removed : persons.subList(0, 100)) {
+            nameIndex.remove(removed);
+        }
+        List<Person> remaining = persons.subList(100, persons.size());
+
+        for (String keyword : Arrays.asList("a", "ab", "abc", "bad", "cabd", "dd")) {
+            List<Person> candidates = nameIndex.findCandidates(keyword);
+            for (Person person : remaining) {
+                if (StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)) {
+                    assertTrue(candidates.contains(person), keyword);
+                }
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
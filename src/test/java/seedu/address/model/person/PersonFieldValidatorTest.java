@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class PersonFieldValidatorTest {
+
+    @Test
+    public void validate_validInputs_returnFields() {
+        assertEquals(ValidationResult.success(new Name("Alice")), PersonFieldValidator.validateName("Alice"));
+        assertEquals(ValidationResult.success(new Phone("91234567")), PersonFieldValidator.validatePhone("91234567"));
+        assertEquals(ValidationResult.success(new Email("a@example.com")),
+                PersonFieldValidator.validateEmail("a@example.com"));
+        assertEquals(ValidationResult.success(new Address("Blk 1")), PersonFieldValidator.validateAddress("Blk 1"));
+        assertEquals(ValidationResult.success(new Tag("friends")), PersonFieldValidator.validateTag("friends"));
+    }
+
+    @Test
+    public void validate_invalidInputs_returnConstraintMessages() {
+        assertEquals(ValidationResult.failure(Name.MESSAGE_CONSTRAINTS), PersonFieldValidator.validateName(" "));
+        assertEquals(ValidationResult.failure(Phone.MESSAGE_CONSTRAINTS), PersonFieldValidator.validatePhone("12"));
+        assertEquals(ValidationResult.failure(Email.MESSAGE_CONSTRAINTS), PersonFieldValidator.validateEmail("a@b"));
+        assertEquals(ValidationResult.failure(Address.MESSAGE_CONSTRAINTS), PersonFieldValidator.validateAddress(""));
+        assertEquals(ValidationResult.failure(Tag.MESSAGE_CONSTRAINTS), PersonFieldValidator.validateTag("a b"));
+    }
+
+    @Test
+    public void isSingleLineText_matchesRegexWithLengthLimit() {
+        String[] inputs = {"", " ", "a", " a", "\ta", "a b ", "a\nb", "a\rb", "a\u0085b", "a\u2028b", "a\u2029b",
+            "\u00e9t\u00e9", "\u000Ba", "a\u000Bb", "x".repeat(5), "x".repeat(6)};
+        for (String input : inputs) {
+            boolean expected = input.matches("[^\\s].*") && input.length() <= 5;
+            assertEquals(expected, PersonFieldValidator.isSingleLineText(input, 5), input);
+        }
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(PersonFieldValidator.isDigits("123", 3, 5));
+        assertTrue(PersonFieldValidator.isDigits("12345", 3, 5));
+        assertFalse(PersonFieldValidator.isDigits("12", 3, 5));
+        assertFalse(PersonFieldValidator.isDigits("123456", 3, 5));
+        assertFalse(PersonFieldValidator.isDigits("12a", 3, 5));
+        assertFalse(PersonFieldValidator.isDigits("\u0661\u0662\u0663", 3, 5)); // non-ASCII digits
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(PersonFieldValidator.isAlphanumeric("aZ09", 4));
+        assertFalse(PersonFieldValidator.isAlphanumeric("", 4));
+        assertFalse(PersonFieldValidator.isAlphanumeric("aZ09b", 4));
+        assertFalse(PersonFieldValidator.isAlphanumeric("a_b", 4));
+        assertFalse(PersonFieldValidator.isAlphanumeric("\u00e9", 4));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void next_returnsDistinctIds() {
+        assertNotEquals(PersonId.next(), PersonId.next());
+    }
+
+    @Test
+    public void of_largeLoadedId_nextIsLarger() {
+        long loaded = PersonId.next().getValue() + 1000;
+        assertEquals(loaded, PersonId.of(loaded).getValue());
+        assertTrue(PersonId.next().getValue() > loaded);
+    }
+
+    @Test
+    public void of_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersonId.of(0));
+        assertThrows(IllegalArgumentException.class, () -> PersonId.of(-1));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(PersonId.isValidId(0));
+        assertTrue(PersonId.isValidId(1));
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = PersonId.of(7);
+        assertEquals(PersonId.of(7), id);
+        assertEquals(PersonId.of(7).hashCode(), id.hashCode());
+        assertNotEquals(PersonId.of(8), id);
+        assertNotEquals(null, id);
+        assertEquals("7", id.toString());
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIdentityTest {
+
+    @Test
+    public void equals() {
+        PersonIdentity aliceIdentity = new PersonIdentity(ALICE);
+
+        // same object -> returns true
+        assertTrue(aliceIdentity.equals(aliceIdentity));
+
+        // same details, different tags and id -> returns true
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertTrue(aliceIdentity.equals(new PersonIdentity(editedAlice)));
+        assertEquals(aliceIdentity.hashCode(), new PersonIdentity(editedAlice).hashCode());
+
+        // null -> returns false
+        assertFalse(aliceIdentity.equals(null));
+
+        // different person -> returns false
+        assertFalse(aliceIdentity.equals(new PersonIdentity(BOB)));
+
+        // different email -> returns false
+        editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(aliceIdentity.equals(new PersonIdentity(editedAlice)));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurringSeriesTest {
+
+    private static final TimeSlot ANCHOR = new TimeSlot("2025-10-21 1000-1100"); // a Tuesday
+
+    @Test
+    public void constructor_invalidPeriod_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new RecurringSeries(ANCHOR, 0, Optional.empty(), Set.of()));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecurringSeries(null, 1, Optional.empty(), Set.of()));
+        assertThrows(NullPointerException.class, () -> new RecurringSeries(ANCHOR, 1, null, Set.of()));
+    }
+
+    @Test
+    public void nextOccurrence_beforeAnchor_returnsAnchor() {
+        assertEquals(ANCHOR, RecurringSeries.weekly(ANCHOR).nextOccurrence(
+                LocalDateTime.of(2020, 1, 1, 0, 0)).get());
+    }
+
+    @Test
+    public void nextOccurrence_exactlyAtStart_returnsThatOccurrence() {
+        assertEquals(new TimeSlot("2025-10-28 1000-1100"), RecurringSeries.weekly(ANCHOR).nextOccurrence(
+                LocalDateTime.of(2025, 10, 28, 10, 0)).get());
+        // one nanosecond later the occurrence has already started
+        assertEquals(new TimeSlot("2025-11-04 1000-1100"), RecurringSeries.weekly(ANCHOR).nextOccurrence(
+                LocalDateTime.of(2025, 10, 28, 10, 0, 0, 1)).get());
+    }
+
+    @Test
+    public void nextOccurrence_longAgoAnchor_returnsNextWeek() {
+        TimeSlot oldAnchor = new TimeSlot("2015-10-20 1000-1100"); // also a Tuesday
+        assertEquals(new TimeSlot("2025-10-28 1000-1100"), RecurringSeries.weekly(oldAnchor).nextOccurrence(
+                LocalDateTime.of(2025, 10, 22, 16, 0)).get());
+    }
+
+    @Test
+    public void nextOccurrence_fortnightlyWithException_skipsException() {
+        RecurringSeries series = new RecurringSeries(ANCHOR, 2, Optional.empty(),
+                Set.of(LocalDate.of(2025, 11, 4)));
+        assertEquals(new TimeSlot("2025-11-18 1000-1100"),
+                series.nextOccurrence(LocalDateTime.of(2025, 10, 22, 0, 0)).get());
+    }
+
+    @Test
+    public void nextOccurrence_afterEnd_returnsEmpty() {
+        RecurringSeries series = new RecurringSeries(ANCHOR, 1, Optional.of(LocalDate.of(2025, 10, 27)), Set.of());
+        assertTrue(series.nextOccurrence(LocalDateTime.of(2025, 10, 25, 0, 0)).isEmpty());
+        assertEquals(ANCHOR, series.nextOccurrence(LocalDateTime.of(2025, 10, 20, 0, 0)).get());
+    }
+
+    @Test
+    public void nextOccurrence_matchesWeeklyStepping() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 200; i++) {
+            TimeSlot anchor = TimeSlot.of(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000)),
+                    ANCHOR.getStartTime(), ANCHOR.getEndTime());
+            LocalDateTime now = LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(random.nextInt(3_000_000));
+
+            LocalDateTime expectedStart = LocalDateTime.of(anchor.getDate(), anchor.getStartTime());
+            while (expectedStart.isBefore(now)) {
+                expectedStart = expectedStart.plusWeeks(1);
+            }
+            assertEquals(expectedStart.toLocalDate(),
+                    RecurringSeries.weekly(anchor).nextOccurrence(now).get().getDate());
+        }
+    }
+
+    @Test
+    public void occurrencesBetween_returnsOccurrencesInWindow() {
+        RecurringSeries series = new RecurringSeries(ANCHOR, 1, Optional.of(LocalDate.of(2025, 11, 25)),
+                Set.of(LocalDate.of(2025, 11, 11)));
+        List<TimeSlot> occurrences = new ArrayList<>();
+        series.occurrencesBetween(LocalDate.of(2025, 11, 1), LocalDate.of(2026, 1, 1)).forEach(occurrences::add);
+        assertEquals(Arrays.asList(new TimeSlot("2025-11-04 1000-1100"), new TimeSlot("2025-11-18 1000-1100"),
+                new TimeSlot("2025-11-25 1000-1100")), occurrences);
+    }
+
+    @Test
+    public void occurrencesBetween_emptyWindow_hasNoOccurrences() {
+        Iterator<TimeSlot> iterator = RecurringSeries.weekly(ANCHOR)
+                .occurrencesBetween(LocalDate.of(2025, 10, 22), LocalDate.of(2025, 10, 27)).iterator();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void equals() {
+        RecurringSeries series = RecurringSeries.weekly(ANCHOR);
+        assertTrue(series.equals(series));
+        assertTrue(series.equals(new RecurringSeries(ANCHOR, 1, Optional.empty(), Set.of())));
+        assertFalse(series.equals(null));
+        assertFalse(series.equals(new RecurringSeries(ANCHOR, 2, Optional.empty(), Set.of())));
+        assertFalse(series.equals(RecurringSeries.weekly(new TimeSlot("2025-10-22 1000-1100"))));
+    }
+}
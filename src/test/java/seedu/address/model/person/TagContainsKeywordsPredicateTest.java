@@ -6,10 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.TagIndex;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 /**
  * Unit tests for {@link TagContainsKeywordsPredicate}.
@@ -72,6 +76,48 @@ public class TagContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withTags().build()));
     }
 
+    @Test
+    public void test_requiredAndExcludedKeywords() {
+        Person friend = new PersonBuilder().withTags("friends").build();
+        Person friendOwingMoney = new PersonBuilder().withTags("friends", "owesMoney").build();
+
+        var predicate = new TagContainsKeywordsPredicate(Arrays.asList("friends", "+owes"));
+        assertFalse(predicate.test(friend));
+        assertTrue(predicate.test(friendOwingMoney));
+
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("friends", "-OWESMONEY"));
+        assertTrue(predicate.test(friend));
+        assertFalse(predicate.test(friendOwingMoney));
+
+        // Only excluded keywords match everyone else
+        predicate = new TagContainsKeywordsPredicate(Collections.singletonList("-owesMoney"));
+        assertTrue(predicate.test(new PersonBuilder().withTags().build()));
+        assertFalse(predicate.test(friendOwingMoney));
+    }
+
+    @Test
+    public void findMatches_sameResultAsTest() {
+        TagIndex index = new TagIndex();
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        index.setAll(persons);
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("friends"),
+                Arrays.asList("FRI", "owes"),
+                Arrays.asList("friends", "+owesMoney"),
+                Arrays.asList("friends", "-owesMoney"),
+                Arrays.asList("+friends", "-money"),
+                Collections.singletonList("-friends"),
+                Collections.singletonList("unused"),
+                Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            var predicate = new TagContainsKeywordsPredicate(keywords);
+            List<Person> expected = persons.stream().filter(predicate).collect(Collectors.toList());
+            List<Person> actual = predicate.findMatches(index);
+            assertEquals(expected.size(), actual.size(), keywords.toString());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
     @Test
     public void toString_returnsCorrectString() {
         var predicate = new TagContainsKeywordsPredicate(Arrays.asList("friends", "owesMoney"));
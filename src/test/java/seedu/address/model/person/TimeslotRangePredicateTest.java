@@ -6,11 +6,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class TimeslotRangePredicateTest {
 
@@ -131,4 +135,28 @@ public class TimeslotRangePredicateTest {
                 + "endTime=any}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void findMatches_sameResultAsTest() {
+        DateIndex index = new DateIndex();
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        index.setAll(persons);
+        List<TimeslotRangePredicate> predicates = Arrays.asList(
+                new TimeslotRangePredicate(Optional.of(DATE_1), Optional.of(DATE_2),
+                        Optional.of(TIME_1), Optional.of(TIME_2)),
+                new TimeslotRangePredicate(Optional.of(DATE_2), Optional.empty(),
+                        Optional.empty(), Optional.of(LocalTime.of(11, 0))),
+                new TimeslotRangePredicate(Optional.empty(), Optional.empty(),
+                        Optional.of(LocalTime.of(16, 0)), Optional.empty()),
+                new TimeslotRangePredicate(Optional.empty(), Optional.empty(),
+                        Optional.of(LocalTime.of(10, 30)), Optional.of(LocalTime.of(17, 0))),
+                new TimeslotRangePredicate(Optional.of(DATE_2), Optional.of(DATE_1),
+                        Optional.empty(), Optional.empty()));
+        for (TimeslotRangePredicate predicate : predicates) {
+            List<Person> expected = persons.stream().filter(predicate).collect(Collectors.toList());
+            List<Person> actual = predicate.findMatches(index);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
 }
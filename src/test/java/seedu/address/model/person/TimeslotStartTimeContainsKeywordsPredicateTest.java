@@ -1,14 +1,18 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class TimeslotStartTimeContainsKeywordsPredicateTest {
 
@@ -78,6 +82,40 @@ public class TimeslotStartTimeContainsKeywordsPredicateTest {
 
         assertFalse(predicate.test(person));
     }
-}
 
+    @Test
+    public void findMatches_sameResultAsTest() {
+        DateIndex index = new DateIndex();
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        index.setAll(persons);
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("2025-10-12"),
+                Arrays.asList("2025-10-12", "2025-10-13"),
+                Collections.singletonList("1000"),
+                Arrays.asList("16:00", "1000"),
+                Arrays.asList("2025-10-13", "1000"),
+                Arrays.asList("2025-10-13", "1600"),
+                Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            var predicate = new TimeslotStartTimeContainsKeywordsPredicate(keywords);
+            List<Person> expected = persons.stream().filter(predicate).collect(Collectors.toList());
+            List<Person> actual = predicate.findMatches(index);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
 
+    @Test
+    public void findMatches_outOfRangeTime_sameResultAsTest() {
+        DateIndex index = new DateIndex();
+        Person midnight = new PersonBuilder().withName("Midnight").withTimeSlot("2025-10-12 0000-0100").build();
+        List<Person> persons = Arrays.asList(midnight, TypicalPersons.BENSON);
+        index.setAll(persons);
+        for (List<String> keywords : Arrays.asList(Collections.singletonList("2400"),
+                Arrays.asList("2025-10-12", "2400"), Arrays.asList("2400", "1000"), Collections.singletonList("0060"))) {
+            var predicate = new TimeslotStartTimeContainsKeywordsPredicate(keywords);
+            List<Person> expected = persons.stream().filter(predicate).collect(Collectors.toList());
+            assertEquals(expected, predicate.findMatches(index));
+        }
+    }
+}
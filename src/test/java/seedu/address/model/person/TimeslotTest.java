@@ -23,6 +23,19 @@ public class TimeslotTest {
         assertEquals("2025-10-12 0800-0900", slot.toString());
     }
 
+    @Test
+    public void of_validComponents_equalsParsedSlot() {
+        TimeSlot slot = TimeSlot.of(LocalDate.of(2025, 10, 12), LocalTime.of(8, 0), LocalTime.of(9, 0));
+        assertEquals(new TimeSlot("2025-10-12 0800-0900"), slot);
+        assertEquals("2025-10-12 0800-0900", slot.getValue());
+    }
+
+    @Test
+    public void of_invalidTimeOrder_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                TimeSlot.of(LocalDate.of(2025, 10, 12), LocalTime.of(9, 0), LocalTime.of(9, 0)));
+    }
+
     @Test
     public void constructor_invalidFormat_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new TimeSlot("2025/10/12 0800-0900"));
@@ -220,4 +233,78 @@ public class TimeslotTest {
         assertTrue(slot1.compareTo(slotEarlierTime) > 0);
         assertTrue(slot1.compareTo(slotLaterTime) < 0);
     }
+
+    @Test
+    public void compareTo_sameStart_shorterSlotFirst() {
+        assertTrue(new TimeSlot("2025-10-12 1000-1100").compareTo(new TimeSlot("2025-10-12 1000-1200")) < 0);
+    }
+
+    @Test
+    public void getEpochMinutes_countFromEpoch() {
+        TimeSlot slot = new TimeSlot("1970-01-02 0030-0100");
+        assertEquals(24 * 60 + 30, slot.getStartEpochMinute());
+        assertEquals(24 * 60 + 60, slot.getEndEpochMinute());
+    }
+
+    @Test
+    public void getEndTime_lastMinuteOfDay() {
+        TimeSlot slot = new TimeSlot("9999-12-31 2300-2359");
+        assertEquals(LocalDate.of(9999, 12, 31), slot.getDate());
+        assertEquals(LocalTime.of(23, 59), slot.getEndTime());
+        assertEquals("9999-12-31 2300-2359", slot.getValue());
+    }
+
+    @Test
+    public void of_partialMinute_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                TimeSlot.of(LocalDate.of(2025, 10, 12), LocalTime.of(9, 0, 30), LocalTime.of(10, 0)));
+    }
+
+    @Test
+    public void hashCode_equalSlots_sameHashCode() {
+        TimeSlot parsed = new TimeSlot("2025-10-12 0800-0900");
+        TimeSlot built = TimeSlot.of(LocalDate.of(2025, 10, 12), LocalTime.of(8, 0), LocalTime.of(9, 0));
+        assertEquals(parsed.hashCode(), built.hashCode());
+    }
+
+    @Test
+    public void parse_validInput_returnsTimeSlot() {
+        ValidationResult<TimeSlot> result = TimeSlot.parse("  2024-02-29 2300-2359 ");
+        assertTrue(result.isValid());
+        assertEquals(TimeSlot.of(LocalDate.of(2024, 2, 29), LocalTime.of(23, 0), LocalTime.of(23, 59)),
+                result.getValue().get());
+    }
+
+    @Test
+    public void parse_earlyDate_returnsTimeSlot() {
+        TimeSlot slot = TimeSlot.parse("1969-12-31 0000-0001").getValue().get();
+        assertEquals(LocalDate.of(1969, 12, 31), slot.getDate());
+        assertEquals(LocalTime.of(0, 1), slot.getEndTime());
+    }
+
+    @Test
+    public void parse_invalidFormat_returnsConstraintsMessage() {
+        String[] inputs = {"", " ", "2025-10-12", "2025-10-12 ", "2025/10/12 0800-0900", "25-10-12 0800-0900",
+            "2025-10-12  0800-0900", "2025-10-12 0800-0900-", "2025-10-12 800-0900", "2025-10-12 0800 0900",
+            "2025-10-12 2400-2401", "2025-10-12 0860-0900", "2025-10-12 0900-0800", "2025-1a-12 0800-0900"};
+        for (String input : inputs) {
+            assertEquals(ValidationResult.failure(TimeSlot.MESSAGE_CONSTRAINTS), TimeSlot.parse(input), input);
+        }
+    }
+
+    @Test
+    public void parse_invalidDate_returnsInvalidDateMessage() {
+        String[] dates = {"2025-02-29", "2025-13-01", "2025-00-10", "2025-04-31", "2025-10-00", "2025-10-32"};
+        for (String date : dates) {
+            assertEquals(ValidationResult.failure(String.format(TimeSlot.MESSAGE_INVALID_DATE, date)),
+                    TimeSlot.parse(" " + date + " 0800-0900"), date);
+        }
+    }
+
+    @Test
+    public void constructor_invalidDate_throwsWithInvalidDateMessage() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+                new TimeSlot("2025-02-30 0800-0900"));
+        assertEquals(String.format(TimeSlot.MESSAGE_INVALID_DATE, "2025-02-30"), e.getMessage());
+    }
 }
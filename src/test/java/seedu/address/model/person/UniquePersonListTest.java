@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -12,6 +14,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +42,39 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(ALICE));
     }
 
+    @Test
+    public void contains_personWithSameIdentityFieldsInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).withTimeSlot("2099-01-01 1000-1100")
+                .build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_afterSetPersonAndRemove_tracksIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacementIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -172,79 +208,92 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void sortTimeSlot_unsortedList_sortsChronologically() {
+    public void add_sameTimeSlots_keepsInsertionOrder() {
         UniquePersonList list = new UniquePersonList();
 
-        // Create persons with timeslots in a messy order
-        Person pA = buildPerson("Alice", "2025-10-20 1000-1100"); // 1st
-        Person pB = buildPerson("Bob", "2025-10-22 1400-1500"); // 3rd
-        Person pC = buildPerson("Charles", "2025-10-21 0900-1000"); // 2nd
+        Person pA = buildPerson("Alice", "2025-10-20 1000-1100");
+        Person pB = buildPerson("Bob", "2025-10-20 1000-1100");
+        Person pC = buildPerson("Charles", "2025-10-19 0900-1000");
 
-        list.add(pB);
         list.add(pA);
+        list.add(pB); // Add B after A
         list.add(pC);
 
-        list.sortTimeSlot();
+        assertEquals(Arrays.asList(pC, pA, pB), list.asUnmodifiableObservableList());
+    }
 
-        UniquePersonList expectedList = new UniquePersonList();
-        expectedList.add(pA);
-        expectedList.add(pC);
-        expectedList.add(pB);
+    @Test
+    public void add_unorderedPersons_keepsChronologicalOrder() {
+        Person pA = buildPerson("Alice", "2025-10-20 1000-1100");
+        Person pB = buildPerson("Bob", "2025-10-22 1400-1500");
+        Person pC = buildPerson("Charles", "2025-10-21 0900-1000");
+        Person pD = buildPerson("Dave", "2025-10-20 1000-1100");
 
-        assertEquals(expectedList, list);
+        uniquePersonList.add(pB);
+        uniquePersonList.add(pA);
+        uniquePersonList.add(pC);
+        uniquePersonList.add(pD); // same slot as A, added later
+
+        assertEquals(Arrays.asList(pA, pD, pC, pB), uniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
-    public void sortTimeSlot_alreadySortedList_remainsSorted() {
-        UniquePersonList list = new UniquePersonList();
-
+    public void setPerson_timeSlotMoved_keepsChronologicalOrder() {
         Person pA = buildPerson("Alice", "2025-10-20 1000-1100");
         Person pB = buildPerson("Bob", "2025-10-21 1400-1500");
         Person pC = buildPerson("Charles", "2025-10-22 0900-1000");
+        uniquePersonList.setPersons(Arrays.asList(pC, pA, pB));
+        assertEquals(Arrays.asList(pA, pB, pC), uniquePersonList.asUnmodifiableObservableList());
 
-        list.add(pA);
-        list.add(pB);
-        list.add(pC);
-
-        list.sortTimeSlot(); // Should have no effect
+        Person movedA = new PersonBuilder(pA).withTimeSlot("2025-10-23 1000-1100").build();
+        uniquePersonList.setPerson(pA, movedA);
+        assertEquals(Arrays.asList(pB, pC, movedA), uniquePersonList.asUnmodifiableObservableList());
 
-        UniquePersonList expectedList = new UniquePersonList();
-        expectedList.add(pA);
-        expectedList.add(pB);
-        expectedList.add(pC);
+        Person retaggedB = new PersonBuilder(pB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(pB, retaggedB);
+        assertEquals(Arrays.asList(retaggedB, pC, movedA), uniquePersonList.asUnmodifiableObservableList());
 
-        assertEquals(expectedList, list);
+        uniquePersonList.remove(pC);
+        assertEquals(Arrays.asList(retaggedB, movedA), uniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
-    public void sortTimeSlot_listWithSameTimeSlots_maintainsRelativeOrder() {
-        UniquePersonList list = new UniquePersonList();
-
-        Person pA = buildPerson("Alice", "2025-10-20 1000-1100");
-        Person pB = buildPerson("Bob", "2025-10-20 1000-1100");
-        Person pC = buildPerson("Charles", "2025-10-19 0900-1000");
-
-        list.add(pA);
-        list.add(pB); // Add B after A
-        list.add(pC);
-
-        list.sortTimeSlot();
+    public void findById_tracksAddEditAndRemove() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
 
-        UniquePersonList expectedList = new UniquePersonList();
-        expectedList.add(pC);
-        expectedList.add(pA);
-        expectedList.add(pB); // Order of A and B should be stable
+        Person editedAlice = new Person(ALICE.getId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                new Address(VALID_ADDRESS_BOB), ALICE.getTimeSlot(), ALICE.getTags());
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertSame(editedAlice, uniquePersonList.findById(ALICE.getId()).get());
 
-        assertEquals(expectedList, list);
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
     }
 
     @Test
-    public void sortTimeSlot_emptyList_noException() {
-        UniquePersonList list = new UniquePersonList();
+    public void add_idInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person sameIdAsAlice = new Person(ALICE.getId(), BOB.getName(), BOB.getPhone(), BOB.getEmail(),
+                BOB.getAddress(), BOB.getTimeSlot(), BOB.getTags());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(sameIdAsAlice));
+    }
 
-        list.sortTimeSlot(); // Should not throw any exception
+    @Test
+    public void setPersons_listWithSharedId_throwsDuplicatePersonException() {
+        Person sameIdAsAlice = new Person(ALICE.getId(), BOB.getName(), BOB.getPhone(), BOB.getEmail(),
+                BOB.getAddress(), BOB.getTimeSlot(), BOB.getTags());
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(ALICE, sameIdAsAlice)));
+    }
 
-        assertEquals(new UniquePersonList(), list);
+    @Test
+    public void remove_equalCopyWithOtherId_removesPerson() {
+        uniquePersonList.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertNotEquals(ALICE.getId(), aliceCopy.getId());
+        uniquePersonList.remove(aliceCopy);
+        assertEquals(Collections.emptyList(), uniquePersonList.asUnmodifiableObservableList());
     }
 
 }
@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ValidationResultTest {
+
+    @Test
+    public void success_holdsValue() {
+        ValidationResult<String> result = ValidationResult.success("value");
+        assertTrue(result.isValid());
+        assertEquals(Optional.of("value"), result.getValue());
+        assertEquals(Optional.empty(), result.getErrorMessage());
+        assertEquals("value", result.orElseThrow());
+    }
+
+    @Test
+    public void failure_holdsErrorMessage() {
+        ValidationResult<String> result = ValidationResult.failure("bad input");
+        assertFalse(result.isValid());
+        assertEquals(Optional.empty(), result.getValue());
+        assertEquals(Optional.of("bad input"), result.getErrorMessage());
+        assertThrows(IllegalArgumentException.class, "bad input", result::orElseThrow);
+    }
+
+    @Test
+    public void orElseThrow_exceptionFactory_throwsMadeException() throws Exception {
+        assertEquals("value", ValidationResult.success("value").orElseThrow(IllegalValueException::new));
+        assertThrows(IllegalValueException.class, "bad input", () ->
+                ValidationResult.failure("bad input").orElseThrow(IllegalValueException::new));
+    }
+
+    @Test
+    public void factories_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationResult.success(null));
+        assertThrows(NullPointerException.class, () -> ValidationResult.failure(null));
+    }
+
+    @Test
+    public void equals() {
+        ValidationResult<String> success = ValidationResult.success("value");
+        assertEquals(ValidationResult.success("value"), success);
+        assertEquals(ValidationResult.failure("bad"), ValidationResult.failure("bad"));
+        assertNotEquals(ValidationResult.success("other"), success);
+        assertNotEquals(ValidationResult.failure("value"), success);
+        assertNotEquals(null, success);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.TimeSlot;
+
+public class AvailabilityFinderTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+    private static final WeekIndex WEEK = new WeekIndex(MONDAY);
+
+    @Test
+    public void bookedMask_lessonInWeek_marksOverlappingBins() {
+        AvailabilityMask booked = AvailabilityFinder.bookedMask(WEEK,
+                List.of(new TimeSlot("2025-10-13 1015-1100")));
+        int tenAm = WEEK.toIndex(MONDAY.atTime(10, 0));
+        assertFalse(booked.get(tenAm - 1));
+        assertTrue(booked.containsRange(tenAm, tenAm + 2));
+        assertFalse(booked.get(tenAm + 2));
+        assertEquals(2, booked.cardinality());
+    }
+
+    @Test
+    public void bookedMask_lessonsOutsideWeek_ignored() {
+        AvailabilityMask booked = AvailabilityFinder.bookedMask(WEEK,
+                List.of(new TimeSlot("2025-10-12 1000-1100"), new TimeSlot("2025-10-20 1000-1100")));
+        assertEquals(0, booked.cardinality());
+    }
+
+    @Test
+    public void findCommonFreeWindows_intersectsMasksAndRemovesBookings() {
+        AvailabilityMask first = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        first.setRange(WEEK.toIndex(MONDAY.atTime(9, 0)), WEEK.toIndex(MONDAY.atTime(12, 0)), true);
+        AvailabilityMask second = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        second.setRange(WEEK.toIndex(MONDAY.atTime(8, 0)), WEEK.toIndex(MONDAY.atTime(11, 30)), true);
+        AvailabilityMask booked = AvailabilityFinder.bookedMask(WEEK,
+                List.of(new TimeSlot("2025-10-13 1000-1100")));
+
+        List<FreeWindow> windows = AvailabilityFinder.findCommonFreeWindows(WEEK, List.of(first, second),
+                booked, 30);
+        assertEquals(List.of(new FreeWindow(MONDAY.atTime(9, 0), MONDAY.atTime(10, 0)),
+                new FreeWindow(MONDAY.atTime(11, 0), MONDAY.atTime(11, 30))), windows);
+
+        // windows shorter than the minimum are dropped
+        windows = AvailabilityFinder.findCommonFreeWindows(WEEK, List.of(first, second), booked, 60);
+        assertEquals(List.of(new FreeWindow(MONDAY.atTime(9, 0), MONDAY.atTime(10, 0))), windows);
+    }
+
+    @Test
+    public void findCommonFreeWindows_noAvailabilities_wholeWeekExceptBookings() {
+        AvailabilityMask booked = AvailabilityFinder.bookedMask(WEEK,
+                List.of(new TimeSlot("2025-10-15 1000-1100")));
+        List<FreeWindow> windows = AvailabilityFinder.findCommonFreeWindows(WEEK, List.of(), booked, 30);
+        LocalDateTime endOfWeek = MONDAY.plusDays(7).atStartOfDay();
+        assertEquals(List.of(new FreeWindow(MONDAY.atStartOfDay(), MONDAY.plusDays(2).atTime(10, 0)),
+                new FreeWindow(MONDAY.plusDays(2).atTime(11, 0), endOfWeek)), windows);
+    }
+
+    @Test
+    public void toWindows_emptyMask_noWindows() {
+        assertTrue(AvailabilityFinder.toWindows(WEEK, AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK), 30)
+                .isEmpty());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+
+public class AvailabilityIndexTest {
+
+    private static final PersonId FIRST_ID = PersonId.of(1);
+    private static final PersonId SECOND_ID = PersonId.of(2);
+    private static final PersonId THIRD_ID = PersonId.of(3);
+
+    private final AvailabilityIndex index = new AvailabilityIndex();
+
+    @Test
+    public void findAvailable_emptyIndex_returnsNobody() {
+        assertTrue(index.isEmpty());
+        assertEquals(List.of(), index.findAvailable(0, WeekIndex.BINS_PER_WEEK));
+    }
+
+    @Test
+    public void findAvailable_returnsPersonsAvailableInEveryBin() {
+        index.setRange(FIRST_ID, 10, 20, true);
+        index.setRange(SECOND_ID, 14, 30, true);
+        index.setRange(THIRD_ID, 0, 16, true);
+
+        assertEquals(List.of(FIRST_ID, SECOND_ID, THIRD_ID), index.findAvailable(14, 16));
+        assertEquals(List.of(FIRST_ID, SECOND_ID), index.findAvailable(14, 20));
+        assertEquals(List.of(SECOND_ID), index.findAvailable(19, 21));
+        assertEquals(List.of(), index.findAvailable(5, 25));
+    }
+
+    @Test
+    public void setRange_unavailable_removesOnlyThoseBins() {
+        index.setRange(FIRST_ID, 10, 20, true);
+        index.setRange(FIRST_ID, 12, 14, false);
+        assertEquals(List.of(FIRST_ID), index.findAvailable(10, 12));
+        assertEquals(List.of(), index.findAvailable(11, 13));
+        assertEquals(List.of(FIRST_ID), index.findAvailable(14, 20));
+
+        // marking an unknown person unavailable indexes nothing
+        index.setRange(SECOND_ID, 0, 10, false);
+        assertEquals(List.of(), index.findAvailable(0, 1));
+    }
+
+    @Test
+    public void index_replacesPreviousAvailability() {
+        WeekIndex week = new WeekIndex(LocalDate.of(2025, 10, 13));
+        index.setRange(FIRST_ID, 0, 10, true);
+        AvailabilityMask mask = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        mask.setRange(20, 24, true);
+        mask.setRange(30, 31, true);
+        index.index(new PersonTimesheet(FIRST_ID, week, mask));
+
+        assertEquals(List.of(), index.findAvailable(0, 1));
+        assertEquals(List.of(FIRST_ID), index.findAvailable(20, 24));
+        assertEquals(List.of(FIRST_ID), index.findAvailable(30, 31));
+        assertEquals(List.of(), index.findAvailable(24, 25));
+    }
+
+    @Test
+    public void remove_freesPositionForReuse() {
+        index.setRange(FIRST_ID, 0, 10, true);
+        index.setRange(SECOND_ID, 0, 10, true);
+        index.remove(FIRST_ID);
+        assertEquals(List.of(SECOND_ID), index.findAvailable(0, 10));
+
+        // the third person takes the first person's position, and none of their old bins
+        index.setRange(THIRD_ID, 5, 6, true);
+        assertEquals(List.of(SECOND_ID), index.findAvailable(0, 5));
+        assertEquals(List.of(THIRD_ID, SECOND_ID), index.findAvailable(5, 6));
+
+        index.remove(SECOND_ID);
+        index.remove(THIRD_ID);
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    public void findAvailable_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findAvailable(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> index.findAvailable(4, 3));
+        assertThrows(IllegalArgumentException.class, () -> index.findAvailable(0, WeekIndex.BINS_PER_WEEK + 1));
+        assertThrows(IllegalArgumentException.class, () -> index.setRange(FIRST_ID, -1, 3, true));
+    }
+}
@@ -118,5 +118,163 @@ public class AvailabilityMaskTest {
         assertEquals(5, emptyMask.size());
         assertEquals(0, emptyMask.cardinality());
     }
-}
 
+    @Test
+    void setRange_acrossWords_matchesSingleSets() {
+        AvailabilityMask ranged = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        AvailabilityMask single = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        ranged.setRange(60, 200, true);
+        ranged.setRange(127, 129, false);
+        for (int i = 60; i < 200; i++) {
+            single.set(i, i < 127 || i >= 129);
+        }
+        assertEquals(single, ranged);
+        assertEquals(138, ranged.cardinality());
+    }
+
+    @Test
+    void containsRange_checksEveryWordInRange() {
+        AvailabilityMask week = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        week.setRange(10, 300, true);
+        assertTrue(week.containsRange(10, 300));
+        assertTrue(week.containsRange(64, 128));
+        assertTrue(week.containsRange(5, 5));
+        assertFalse(week.containsRange(9, 300));
+        assertFalse(week.containsRange(10, 301));
+        week.set(150, false);
+        assertFalse(week.containsRange(10, 300));
+        assertThrows(IllegalArgumentException.class, () -> week.containsRange(0, WeekIndex.BINS_PER_WEEK + 1));
+    }
+
+    @Test
+    void nextSetBitAndNextClearBit() {
+        AvailabilityMask week = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        assertEquals(-1, week.nextSetBit(0));
+        assertEquals(0, week.nextClearBit(0));
+        week.setRange(130, WeekIndex.BINS_PER_WEEK, true);
+        assertEquals(130, week.nextSetBit(3));
+        assertEquals(200, week.nextSetBit(200));
+        assertEquals(WeekIndex.BINS_PER_WEEK, week.nextClearBit(130));
+        assertEquals(-1, week.nextSetBit(WeekIndex.BINS_PER_WEEK));
+    }
+
+    @Test
+    void nextSetRun_skipsShortRuns() {
+        AvailabilityMask week = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        week.setRange(2, 4, true);
+        week.setRange(62, 66, true);
+        week.setRange(300, 336, true);
+        assertEquals(2, week.nextSetRun(0, 2));
+        assertEquals(62, week.nextSetRun(0, 3));
+        assertEquals(63, week.nextSetRun(63, 3));
+        assertEquals(300, week.nextSetRun(0, 5));
+        assertEquals(-1, week.nextSetRun(0, 37));
+        assertThrows(IllegalArgumentException.class, () -> week.nextSetRun(0, 0));
+    }
+
+    @Test
+    void bulkOperations_combineWordByWord() {
+        AvailabilityMask a = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        AvailabilityMask b = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        a.setRange(0, 200, true);
+        b.setRange(100, 336, true);
+        AvailabilityMask destination = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+
+        a.andInto(b, destination);
+        assertEquals(100, destination.nextSetBit(0));
+        assertEquals(200, destination.nextClearBit(100));
+
+        a.orInto(b, destination);
+        assertEquals(WeekIndex.BINS_PER_WEEK, destination.cardinality());
+
+        a.andNotInto(b, destination);
+        assertTrue(destination.containsRange(0, 100));
+        assertEquals(100, destination.cardinality());
+
+        assertTrue(a.intersects(b));
+        a.andNot(b);
+        assertFalse(a.intersects(b));
+        a.or(b);
+        a.and(destination);
+        assertEquals(destination, a);
+    }
+
+    @Test
+    void bulkOperations_differentSizes_throwException() {
+        AvailabilityMask other = AvailabilityMask.empty(11);
+        assertThrows(IllegalArgumentException.class, () -> mask.and(other));
+        assertThrows(IllegalArgumentException.class, () -> mask.intersects(other));
+        assertThrows(IllegalArgumentException.class, () -> mask.andInto(mask, other));
+    }
+
+    @Test
+    void copy_isIndependent() {
+        mask.set(3, true);
+        AvailabilityMask copy = mask.copy();
+        assertEquals(mask, copy);
+        copy.set(4, true);
+        assertFalse(mask.get(4));
+        mask.copyFrom(copy);
+        assertEquals(copy, mask);
+        mask.clear();
+        assertEquals(0, mask.cardinality());
+    }
+
+    @Test
+    void toByteArray_andFromByteArray_roundTripWorks() {
+        AvailabilityMask week = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        week.set(0, true);
+        week.setRange(60, 70, true);
+        week.set(WeekIndex.BINS_PER_WEEK - 1, true);
+
+        byte[] bytes = week.toByteArray();
+        assertEquals(42, bytes.length);
+        assertEquals(1, bytes[0]); // slot 0 is the lowest bit of the first byte
+        assertEquals((byte) 0x80, bytes[41]);
+        assertEquals(week, AvailabilityMask.fromByteArray(bytes, WeekIndex.BINS_PER_WEEK));
+    }
+
+    @Test
+    void fromByteArray_ignoresBitsPastSize() {
+        AvailabilityMask restored = AvailabilityMask.fromByteArray(new byte[] {(byte) 0xFF, (byte) 0xFF}, 10);
+        assertEquals(10, restored.cardinality());
+        assertEquals(restored, AvailabilityMask.fromBinaryString("1111111111"));
+    }
+
+    @Test
+    void fromByteArray_wrongLength_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.fromByteArray(new byte[3], 10));
+    }
+
+    @Test
+    void toPackedString_andParse_roundTripWorks() {
+        AvailabilityMask week = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        week.setRange(18, 40, true);
+        week.set(WeekIndex.BINS_PER_WEEK - 1, true);
+
+        String packed = week.toPackedString();
+        assertTrue(packed.startsWith("v1:336:"));
+        assertTrue(packed.length() * 5 < week.toBinaryString().length());
+        assertEquals(week, AvailabilityMask.parse(packed));
+
+        mask.set(9, true);
+        assertEquals(mask, AvailabilityMask.parse(mask.toPackedString()));
+        assertEquals(AvailabilityMask.empty(0), AvailabilityMask.parse(AvailabilityMask.empty(0).toPackedString()));
+    }
+
+    @Test
+    void parse_binaryString_readsLegacyForm() {
+        mask.setRange(2, 5, true);
+        assertEquals(mask, AvailabilityMask.parse(mask.toBinaryString()));
+    }
+
+    @Test
+    void parse_invalidString_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.parse("0102"));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.parse("v1:336"));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.parse("v1:abc:AA"));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.parse("v1:10:!!!"));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.parse("v1:336:AAAA"));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityMask.parse("v1:-8:"));
+    }
+}
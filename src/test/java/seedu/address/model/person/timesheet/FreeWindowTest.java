@@ -0,0 +1,42 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class FreeWindowTest {
+
+    private static final LocalDateTime NINE_AM = LocalDateTime.of(2025, 10, 13, 9, 0);
+
+    @Test
+    public void constructor_endNotAfterStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FreeWindow(NINE_AM, NINE_AM));
+        assertThrows(IllegalArgumentException.class, () -> new FreeWindow(NINE_AM, NINE_AM.minusMinutes(30)));
+    }
+
+    @Test
+    public void getDurationMinutes() {
+        assertEquals(90, new FreeWindow(NINE_AM, NINE_AM.plusMinutes(90)).getDurationMinutes());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("2025-10-13 0900-1030", new FreeWindow(NINE_AM, NINE_AM.plusMinutes(90)).toString());
+        assertEquals("2025-10-13 0900 to 2025-10-14 0000",
+                new FreeWindow(NINE_AM, NINE_AM.plusHours(15)).toString());
+    }
+
+    @Test
+    public void equals() {
+        FreeWindow window = new FreeWindow(NINE_AM, NINE_AM.plusHours(1));
+        assertTrue(window.equals(new FreeWindow(NINE_AM, NINE_AM.plusHours(1))));
+        assertTrue(window.equals(window));
+        assertFalse(window.equals(null));
+        assertFalse(window.equals(new FreeWindow(NINE_AM, NINE_AM.plusHours(2))));
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LessonPlacementSolverTest {
+
+    private static final int NO_LESSON_PENALTY = LessonPlacementSolver.GAP_PENALTY_PER_BIN * WeekIndex.BINS_PER_DAY;
+
+    private final LessonPlacementSolver solver = new LessonPlacementSolver(60, Optional.empty(), Optional.empty());
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonPlacementSolver(0, Optional.empty(), Optional.empty()));
+        assertThrows(IllegalArgumentException.class, () -> new LessonPlacementSolver(60,
+                Optional.of(LocalTime.of(9, 0)), Optional.of(LocalTime.of(9, 0))));
+    }
+
+    @Test
+    public void findBest_nextToLesson_ranksSmallerGapsHigher() {
+        // Monday 0800-1200 available, 1100-1130 booked
+        solver.addWeek(mask(bin(0, 8, 0), bin(0, 12, 0)), mask(bin(0, 11, 0), bin(0, 11, 30)));
+        assertEquals(List.of(placement(DayOfWeek.MONDAY, 10, 0, 1, 1, LessonPlacementSolver.FIT_POINTS),
+                placement(DayOfWeek.MONDAY, 9, 30, 1, 1,
+                        LessonPlacementSolver.FIT_POINTS - LessonPlacementSolver.GAP_PENALTY_PER_BIN)),
+                solver.findBest(2));
+    }
+
+    @Test
+    public void findBest_severalWeeks_ranksTimesFreeInMoreWeeksHigher() {
+        solver.addWeek(mask(0, WeekIndex.BINS_PER_WEEK), empty());
+        solver.addWeek(mask(bin(1, 9, 0), bin(1, 10, 0)), empty());
+        assertEquals(2, solver.getWeekCount());
+        assertEquals(List.of(placement(DayOfWeek.TUESDAY, 9, 0, 2, 2,
+                LessonPlacementSolver.FIT_POINTS - NO_LESSON_PENALTY),
+                placement(DayOfWeek.MONDAY, 0, 0, 1, 2, LessonPlacementSolver.FIT_POINTS / 2 - NO_LESSON_PENALTY)),
+                solver.findBest(2));
+    }
+
+    @Test
+    public void findBest_preferredHours_ranksTimesInsideThemHigher() {
+        LessonPlacementSolver preferring = new LessonPlacementSolver(60, Optional.of(LocalTime.of(14, 0)),
+                Optional.of(LocalTime.of(15, 0)));
+        preferring.addWeek(mask(bin(0, 13, 0), bin(0, 16, 0)), empty());
+        int expectedScore = LessonPlacementSolver.FIT_POINTS - NO_LESSON_PENALTY;
+        assertEquals(List.of(placement(DayOfWeek.MONDAY, 14, 0, 1, 1, expectedScore),
+                placement(DayOfWeek.MONDAY, 13, 30, 1, 1,
+                        expectedScore - LessonPlacementSolver.PREFERENCE_PENALTY_PER_BIN)),
+                preferring.findBest(2));
+    }
+
+    @Test
+    public void findBest_availabilityAcrossMidnight_lessonsStayWithinOneDay() {
+        solver.addWeek(mask(bin(0, 23, 0), bin(1, 1, 0)), empty());
+        int expectedScore = LessonPlacementSolver.FIT_POINTS - NO_LESSON_PENALTY;
+        assertEquals(List.of(placement(DayOfWeek.MONDAY, 23, 0, 1, 1, expectedScore),
+                placement(DayOfWeek.TUESDAY, 0, 0, 1, 1, expectedScore)), solver.findBest(5));
+    }
+
+    @Test
+    public void findBest_nothingFree_returnsEmpty() {
+        solver.addWeek(mask(bin(0, 9, 0), bin(0, 10, 0)), mask(bin(0, 9, 30), bin(0, 10, 0)));
+        assertTrue(solver.findBest(3).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> solver.findBest(0));
+    }
+
+    @Test
+    public void findBest_fullTerm_picksTimesFreeInEveryWeek() {
+        // every other week the student is only free on Wednesday afternoon, when a lesson ends at 1500
+        for (int week = 0; week < 20; week++) {
+            AvailabilityMask available = week % 2 == 0 ? mask(0, WeekIndex.BINS_PER_WEEK)
+                    : mask(bin(2, 12, 0), bin(2, 18, 0));
+            solver.addWeek(available, mask(bin(2, 14, 0), bin(2, 15, 0)));
+        }
+        assertEquals(placement(DayOfWeek.WEDNESDAY, 13, 0, 20, 20, LessonPlacementSolver.FIT_POINTS),
+                solver.findBest(1).get(0));
+        assertEquals(placement(DayOfWeek.WEDNESDAY, 15, 0, 20, 20, LessonPlacementSolver.FIT_POINTS),
+                solver.findBest(2).get(1));
+    }
+
+    private static int bin(int day, int hour, int minute) {
+        return day * WeekIndex.BINS_PER_DAY + (hour * 60 + minute) / WeekIndex.MINUTES_PER_BIN;
+    }
+
+    private static AvailabilityMask mask(int fromBin, int toBin) {
+        AvailabilityMask mask = empty();
+        mask.setRange(fromBin, toBin, true);
+        return mask;
+    }
+
+    private static AvailabilityMask empty() {
+        return AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+    }
+
+    private static LessonPlacement placement(DayOfWeek day, int hour, int minute, int freeWeeks, int totalWeeks,
+                                             int score) {
+        LocalTime start = LocalTime.of(hour, minute);
+        return new LessonPlacement(day, start, start.plusHours(1), freeWeeks, totalWeeks, score);
+    }
+}
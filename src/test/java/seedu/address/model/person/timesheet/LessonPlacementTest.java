@@ -0,0 +1,41 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class LessonPlacementTest {
+
+    private static final LocalTime NINE_AM = LocalTime.of(9, 0);
+
+    @Test
+    public void constructor_invalidFreeWeeks_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonPlacement(DayOfWeek.MONDAY, NINE_AM, NINE_AM.plusHours(1), 0, 4, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonPlacement(DayOfWeek.MONDAY, NINE_AM, NINE_AM.plusHours(1), 5, 4, 0));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("TUESDAY 0900-1030 (free in 3 of 4 weeks)",
+                new LessonPlacement(DayOfWeek.TUESDAY, NINE_AM, NINE_AM.plusMinutes(90), 3, 4, 750).toString());
+    }
+
+    @Test
+    public void equals() {
+        LessonPlacement placement = new LessonPlacement(DayOfWeek.MONDAY, NINE_AM, NINE_AM.plusHours(1), 2, 2, 760);
+        assertTrue(placement.equals(new LessonPlacement(DayOfWeek.MONDAY, NINE_AM, NINE_AM.plusHours(1), 2, 2, 760)));
+        assertTrue(placement.equals(placement));
+        assertFalse(placement.equals(null));
+        assertFalse(placement.equals(new LessonPlacement(DayOfWeek.FRIDAY, NINE_AM, NINE_AM.plusHours(1), 2, 2, 760)));
+        assertFalse(placement.equals(new LessonPlacement(DayOfWeek.MONDAY, NINE_AM, NINE_AM.plusHours(1), 1, 2, 760)));
+        assertFalse(placement.equals(new LessonPlacement(DayOfWeek.MONDAY, NINE_AM, NINE_AM.plusHours(1), 2, 2, 0)));
+    }
+}
@@ -12,15 +12,19 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.PersonId;
+
 public class PersonTimesheetTest {
 
+    private static final PersonId PERSON_ID = PersonId.of(1);
+
     private PersonTimesheet timesheet;
     private WeekIndex weekIndex;
 
     @BeforeEach
     void setUp() {
         weekIndex = new WeekIndex(LocalDate.of(2025, 10, 13)); // Monday
-        timesheet = new PersonTimesheet("person1", weekIndex);
+        timesheet = new PersonTimesheet(PERSON_ID, weekIndex);
     }
 
     @Test
@@ -62,7 +66,7 @@ public class PersonTimesheetTest {
         );
 
         String binary = timesheet.toBinary();
-        PersonTimesheet restored = PersonTimesheet.fromBinary("person1",
+        PersonTimesheet restored = PersonTimesheet.fromBinary(PERSON_ID,
                 weekIndex.getWeekStartMonday(), binary);
 
         assertEquals(binary, restored.toBinary());
@@ -79,21 +83,37 @@ public class PersonTimesheetTest {
         );
 
         String encoded = timesheet.toEncodedString();
-        PersonTimesheet restored = PersonTimesheet.fromEncodedString("person1", encoded);
+        PersonTimesheet restored = PersonTimesheet.fromEncodedString(PERSON_ID, encoded);
 
         assertEquals(timesheet.toBinary(), restored.toBinary());
         assertEquals(timesheet.getWeekStartMonday(), restored.getWeekStartMonday());
     }
 
+    @Test
+    void toEncodedString_usesPackedMask() {
+        assertEquals("2025-10-13|" + timesheet.getMask().toPackedString(), timesheet.toEncodedString());
+    }
+
+    @Test
+    void fromEncodedString_legacyBinaryMask_stillLoads() {
+        timesheet.markAvailable(
+                weekIndex.getWeekStartMonday().atTime(13, 0),
+                weekIndex.getWeekStartMonday().atTime(14, 0)
+        );
+        String legacy = timesheet.getWeekStartMonday() + "|" + timesheet.toBinary();
+        PersonTimesheet restored = PersonTimesheet.fromEncodedString(PERSON_ID, legacy);
+        assertEquals(timesheet.getMask(), restored.getMask());
+    }
+
     @Test
     void fromEncodedString_invalidFormat_throwsException() {
         assertThrows(IllegalArgumentException.class, () ->
-                PersonTimesheet.fromEncodedString("person1", "invalidEncodedString"));
+                PersonTimesheet.fromEncodedString(PERSON_ID, "invalidEncodedString"));
     }
 
     @Test
     void getters_returnExpectedValues() {
-        assertEquals("person1", timesheet.getPersonId());
+        assertEquals(PERSON_ID, timesheet.getPersonId());
         assertEquals(weekIndex, timesheet.getWeekIndex());
         assertEquals(weekIndex.getWeekStartMonday(), timesheet.getWeekStartMonday());
     }
@@ -0,0 +1,155 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+
+public class TimesheetArchiveTest {
+
+    private static final PersonId PERSON_ID = PersonId.of(1);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+
+    private final TimesheetArchive archive = new TimesheetArchive();
+
+    private static AvailabilityMask maskWithRange(int from, int to) {
+        AvailabilityMask mask = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        mask.setRange(from, to, true);
+        return mask;
+    }
+
+    @Test
+    public void get_nothingArchived_returnsEmpty() {
+        assertEquals(Optional.empty(), archive.get(PERSON_ID, MONDAY));
+    }
+
+    @Test
+    public void put_weeksOutOfOrder_eachWeekReadBack() {
+        AvailabilityMask first = maskWithRange(18, 24);
+        AvailabilityMask second = maskWithRange(0, WeekIndex.BINS_PER_WEEK);
+        AvailabilityMask third = maskWithRange(300, 336);
+        archive.put(PERSON_ID, MONDAY.plusWeeks(3), third);
+        archive.put(PERSON_ID, MONDAY, first);
+        archive.put(PERSON_ID, MONDAY.plusWeeks(1), second);
+
+        assertEquals(Optional.of(first), archive.get(PERSON_ID, MONDAY));
+        assertEquals(Optional.of(second), archive.get(PERSON_ID, MONDAY.plusWeeks(1)));
+        assertEquals(Optional.empty(), archive.get(PERSON_ID, MONDAY.plusWeeks(2)));
+        assertEquals(Optional.of(third), archive.get(PERSON_ID, MONDAY.plusWeeks(3)));
+        assertEquals(Optional.empty(), archive.get(PERSON_ID, MONDAY.minusWeeks(1)));
+        assertEquals(3, archive.getWeeks(PERSON_ID).size());
+    }
+
+    @Test
+    public void put_sameWeekAgain_replaces() {
+        archive.put(PERSON_ID, MONDAY, maskWithRange(0, 10));
+        archive.put(PERSON_ID, MONDAY, maskWithRange(5, 6));
+        assertEquals(Optional.of(maskWithRange(5, 6)), archive.get(PERSON_ID, MONDAY));
+    }
+
+    @Test
+    public void put_notMonday_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                archive.put(PERSON_ID, MONDAY.plusDays(1), maskWithRange(0, 1)));
+    }
+
+    @Test
+    public void put_repeatedWeeks_compressesToFewBytes() {
+        // a semester of the same availability every week for hundreds of students
+        for (long id = 1; id <= 300; id++) {
+            for (int week = 0; week < 15; week++) {
+                archive.put(PersonId.of(id), MONDAY.plusWeeks(week), maskWithRange(30, 40));
+            }
+        }
+        int rawSize = 300 * 15 * TimesheetArchive.BYTES_PER_WEEK;
+        assertTrue(archive.getSizeInBytes() * 10 < rawSize, "size " + archive.getSizeInBytes());
+        assertEquals(Optional.of(maskWithRange(30, 40)), archive.get(PersonId.of(150), MONDAY.plusWeeks(14)));
+    }
+
+    @Test
+    public void encode_emptyAndDecodeRoundTrip() {
+        assertEquals(new TreeMap<>(), TimesheetArchive.decode(TimesheetArchive.encode(new TreeMap<>())));
+
+        archive.put(PERSON_ID, MONDAY, maskWithRange(100, 200));
+        archive.put(PERSON_ID, LocalDate.of(1969, 12, 29), maskWithRange(1, 2)); // before the epoch
+        assertEquals(archive.getWeeks(PERSON_ID), TimesheetArchive.decode(archive.getChain(PERSON_ID)));
+    }
+
+    @Test
+    public void putChain_validChain_readBack() {
+        archive.put(PERSON_ID, MONDAY, maskWithRange(100, 200));
+        TimesheetArchive copy = new TimesheetArchive();
+        copy.putChain(PERSON_ID, archive.getChain(PERSON_ID));
+        assertArrayEquals(archive.getChain(PERSON_ID), copy.getChain(PERSON_ID));
+        assertEquals(Optional.of(maskWithRange(100, 200)), copy.get(PERSON_ID, MONDAY));
+    }
+
+    @Test
+    public void putChain_corruptChain_throwsIllegalArgumentException() {
+        archive.put(PERSON_ID, MONDAY, maskWithRange(100, 200));
+        byte[] chain = archive.getChain(PERSON_ID);
+        byte[] truncated = Arrays.copyOf(chain, chain.length - 1);
+        byte[] extended = Arrays.copyOf(chain, chain.length + 1);
+        assertThrows(IllegalArgumentException.class, () -> archive.putChain(PERSON_ID, truncated));
+        assertThrows(IllegalArgumentException.class, () -> archive.putChain(PERSON_ID, extended));
+        assertThrows(IllegalArgumentException.class, () -> archive.putChain(PERSON_ID, new byte[] {2, 0}));
+    }
+
+    @Test
+    public void removePerson_removesAllWeeks() {
+        archive.put(PERSON_ID, MONDAY, maskWithRange(0, 1));
+        archive.removePerson(PERSON_ID);
+        assertTrue(archive.getPersonIds().isEmpty());
+        assertEquals(Optional.empty(), archive.get(PERSON_ID, MONDAY));
+    }
+
+    @Test
+    public void put_weeksInOrder_appendsSameChainAsEncodingAll() {
+        // enough weeks for the week count at the start of the chain to grow from one byte to two
+        TreeMap<LocalDate, AvailabilityMask> weeks = new TreeMap<>();
+        for (int i = 0; i < 70; i++) {
+            LocalDate monday = MONDAY.plusWeeks(i * 2L);
+            AvailabilityMask mask = maskWithRange(i, i + 10);
+            weeks.put(monday, mask);
+            archive.put(PERSON_ID, monday, mask);
+        }
+        assertArrayEquals(TimesheetArchive.encode(weeks), archive.getChain(PERSON_ID));
+        assertEquals(weeks, archive.getWeeks(PERSON_ID));
+    }
+
+    @Test
+    public void put_afterPutChain_appendsToLoadedChain() {
+        TreeMap<LocalDate, AvailabilityMask> weeks = new TreeMap<>();
+        weeks.put(MONDAY, maskWithRange(0, 10));
+        archive.putChain(PERSON_ID, TimesheetArchive.encode(weeks));
+        archive.put(PERSON_ID, MONDAY.plusWeeks(1), maskWithRange(5, 15));
+
+        weeks.put(MONDAY.plusWeeks(1), maskWithRange(5, 15));
+        assertArrayEquals(TimesheetArchive.encode(weeks), archive.getChain(PERSON_ID));
+    }
+
+    @Test
+    public void putAll_weeksBeforeAndAfterArchived_mergesAll() {
+        archive.put(PERSON_ID, MONDAY.plusWeeks(1), maskWithRange(0, 1));
+        TreeMap<LocalDate, AvailabilityMask> added = new TreeMap<>();
+        added.put(MONDAY, maskWithRange(2, 3));
+        added.put(MONDAY.plusWeeks(1), maskWithRange(4, 5));
+        added.put(MONDAY.plusWeeks(2), maskWithRange(6, 7));
+        archive.putAll(PERSON_ID, added);
+        assertEquals(added, archive.getWeeks(PERSON_ID));
+
+        // appending after a merge continues from the merged chain's last week
+        archive.put(PERSON_ID, MONDAY.plusWeeks(3), maskWithRange(8, 9));
+        added.put(MONDAY.plusWeeks(3), maskWithRange(8, 9));
+        assertArrayEquals(TimesheetArchive.encode(added), archive.getChain(PERSON_ID));
+    }
+}
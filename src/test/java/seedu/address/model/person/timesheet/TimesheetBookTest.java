@@ -0,0 +1,158 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+
+public class TimesheetBookTest {
+
+    private static final PersonId FIRST_ID = PersonId.of(1);
+    private static final PersonId SECOND_ID = PersonId.of(2);
+    private static final WeekIndex WEEK = new WeekIndex(LocalDate.of(2025, 10, 13));
+    private static final WeekIndex NEXT_WEEK = new WeekIndex(LocalDate.of(2025, 10, 20));
+    private static final LocalDateTime TUESDAY_4PM = LocalDateTime.of(2025, 10, 14, 16, 0);
+
+    private final TimesheetBook book = new TimesheetBook();
+
+    @Test
+    public void getTimesheet_noneRecorded_returnsEmpty() {
+        assertEquals(Optional.empty(), book.getTimesheet(FIRST_ID, WEEK));
+    }
+
+    @Test
+    public void setTimesheet_replacesExisting() {
+        book.markAvailable(FIRST_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(1));
+        PersonTimesheet replacement = new PersonTimesheet(FIRST_ID, WEEK);
+        book.setTimesheet(replacement);
+        assertEquals(replacement.getMask(), book.getTimesheet(FIRST_ID, WEEK).get().getMask());
+        assertEquals(Optional.empty(), book.getTimesheet(FIRST_ID, NEXT_WEEK));
+    }
+
+    @Test
+    public void getTimesheet_changeReturnedCopy_bookUnchanged() {
+        book.markAvailable(FIRST_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(1));
+        PersonTimesheet copy = book.getTimesheet(FIRST_ID, WEEK).get();
+        copy.markAvailable(TUESDAY_4PM.plusHours(1), TUESDAY_4PM.plusHours(2));
+
+        assertTrue(book.findAvailable(TUESDAY_4PM.plusHours(1), TUESDAY_4PM.plusHours(2)).isEmpty());
+        assertEquals(2, book.getTimesheet(FIRST_ID, WEEK).get().getMask().cardinality());
+    }
+
+    @Test
+    public void setTimesheet_changeAfterwards_bookUnchanged() {
+        PersonTimesheet timesheet = new PersonTimesheet(FIRST_ID, WEEK);
+        book.setTimesheet(timesheet);
+        timesheet.markAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(1));
+        assertEquals(0, book.getTimesheet(FIRST_ID, WEEK).get().getMask().cardinality());
+    }
+
+    @Test
+    public void removePerson_removesEveryWeekOfThatPersonOnly() {
+        book.setTimesheet(new PersonTimesheet(FIRST_ID, WEEK));
+        book.setTimesheet(new PersonTimesheet(FIRST_ID, NEXT_WEEK));
+        PersonTimesheet other = new PersonTimesheet(SECOND_ID, WEEK);
+        other.markAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(1));
+        book.setTimesheet(other);
+
+        book.removePerson(FIRST_ID);
+        assertTrue(book.getTimesheet(FIRST_ID, WEEK).isEmpty());
+        assertTrue(book.getTimesheet(FIRST_ID, NEXT_WEEK).isEmpty());
+        assertEquals(other.getMask(), book.getTimesheet(SECOND_ID, WEEK).get().getMask());
+    }
+
+    @Test
+    public void markAvailable_updatesTimesheetAndIndex() {
+        book.markAvailable(FIRST_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(2));
+        book.markAvailable(SECOND_ID, TUESDAY_4PM.plusHours(1), TUESDAY_4PM.plusHours(3));
+
+        assertTrue(book.getTimesheet(FIRST_ID, WEEK).get().isAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(2)));
+        assertEquals(List.of(FIRST_ID), book.findAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(2)));
+        assertEquals(Set.of(FIRST_ID, SECOND_ID),
+                Set.copyOf(book.findAvailable(TUESDAY_4PM.plusHours(1), TUESDAY_4PM.plusHours(2))));
+
+        book.markUnavailable(FIRST_ID, TUESDAY_4PM.plusMinutes(90), TUESDAY_4PM.plusHours(2));
+        assertEquals(List.of(SECOND_ID), book.findAvailable(TUESDAY_4PM.plusHours(1), TUESDAY_4PM.plusHours(2)));
+
+        // other weeks are indexed separately
+        assertEquals(List.of(), book.findAvailable(TUESDAY_4PM.plusWeeks(1), TUESDAY_4PM.plusWeeks(1).plusHours(1)));
+    }
+
+    @Test
+    public void markUnavailable_weekWithNothingRecorded_staysAvailableElsewhere() {
+        book.findAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(1)); // builds the week's index first
+        book.markUnavailable(FIRST_ID, TUESDAY_4PM.plusHours(1), TUESDAY_4PM.plusHours(2));
+
+        AvailabilityMask mask = book.getTimesheet(FIRST_ID, WEEK).get().getMask();
+        assertEquals(WeekIndex.BINS_PER_WEEK - 2, mask.cardinality());
+        assertEquals(List.of(FIRST_ID), book.findAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(1)));
+        assertEquals(List.of(), book.findAvailable(TUESDAY_4PM.plusHours(1), TUESDAY_4PM.plusHours(2)));
+    }
+
+    @Test
+    public void setTimesheet_reindexesPerson() {
+        book.markAvailable(FIRST_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(2));
+        PersonTimesheet replacement = new PersonTimesheet(FIRST_ID, WEEK);
+        replacement.markAvailable(TUESDAY_4PM.plusDays(1), TUESDAY_4PM.plusDays(1).plusHours(1));
+        book.setTimesheet(replacement);
+
+        assertEquals(List.of(), book.findAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(1)));
+        assertEquals(List.of(FIRST_ID), book.findAvailable(TUESDAY_4PM.plusDays(1),
+                TUESDAY_4PM.plusDays(1).plusHours(1)));
+    }
+
+    @Test
+    public void removePerson_removesFromIndex() {
+        book.markAvailable(FIRST_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(2));
+        book.markAvailable(SECOND_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(2));
+        book.removePerson(FIRST_ID);
+        assertEquals(List.of(SECOND_ID), book.findAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(2)));
+    }
+
+    @Test
+    public void findAvailable_endNotAfterStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> book.findAvailable(TUESDAY_4PM, TUESDAY_4PM));
+        assertThrows(IllegalArgumentException.class, () -> book.findAvailable(TUESDAY_4PM.plusHours(1),
+                TUESDAY_4PM));
+    }
+
+    @Test
+    public void findAvailable_weeksSpilledFromCache_stillFound() {
+        TimesheetBook smallBook = new TimesheetBook(new TimesheetRepository(1, new TimesheetArchive()));
+        smallBook.markAvailable(FIRST_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(2));
+        smallBook.markAvailable(SECOND_ID, TUESDAY_4PM.plusWeeks(1), TUESDAY_4PM.plusWeeks(1).plusHours(2));
+        smallBook.markAvailable(SECOND_ID, TUESDAY_4PM, TUESDAY_4PM.plusHours(1));
+
+        assertEquals(1, smallBook.getRepository().getCachedCount());
+        assertEquals(Set.of(FIRST_ID, SECOND_ID),
+                Set.copyOf(smallBook.findAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(1))));
+        assertEquals(List.of(SECOND_ID), smallBook.findAvailable(TUESDAY_4PM.plusWeeks(1),
+                TUESDAY_4PM.plusWeeks(1).plusHours(2)));
+        assertTrue(smallBook.getTimesheet(FIRST_ID, WEEK).get().isAvailable(TUESDAY_4PM, TUESDAY_4PM.plusHours(2)));
+    }
+
+    @Test
+    public void markAvailable_rangeToEndOfWeek_marksLastBins() {
+        LocalDateTime sunday10pm = LocalDateTime.of(2025, 10, 19, 22, 0);
+        LocalDateTime nextMonday = LocalDateTime.of(2025, 10, 20, 0, 0);
+        book.markAvailable(FIRST_ID, sunday10pm, nextMonday);
+        assertEquals(List.of(FIRST_ID), book.findAvailable(sunday10pm, nextMonday));
+        assertTrue(book.getTimesheet(FIRST_ID, WEEK).get().isAvailable(sunday10pm, nextMonday));
+    }
+
+    @Test
+    public void markAvailable_rangeWithinOneBin_marksThatBin() {
+        book.markAvailable(FIRST_ID, TUESDAY_4PM.plusMinutes(5), TUESDAY_4PM.plusMinutes(20));
+        assertEquals(List.of(FIRST_ID), book.findAvailable(TUESDAY_4PM, TUESDAY_4PM.plusMinutes(30)));
+        assertEquals(List.of(FIRST_ID), book.findAvailable(TUESDAY_4PM.plusMinutes(10), TUESDAY_4PM.plusMinutes(15)));
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.person.timesheet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+
+public class TimesheetRepositoryTest {
+
+    private static final PersonId FIRST_ID = PersonId.of(1);
+    private static final PersonId SECOND_ID = PersonId.of(2);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+
+    private final TimesheetArchive archive = new TimesheetArchive();
+    private final TimesheetRepository repository = new TimesheetRepository(2, archive);
+
+    private static AvailabilityMask maskWithRange(int from, int to) {
+        AvailabilityMask mask = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        mask.setRange(from, to, true);
+        return mask;
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimesheetRepository(0, archive));
+    }
+
+    @Test
+    public void put_overCapacity_spillsLeastRecentlyUsedToArchive() {
+        repository.put(FIRST_ID, MONDAY, maskWithRange(0, 1));
+        repository.put(FIRST_ID, MONDAY.plusWeeks(1), maskWithRange(1, 2));
+        repository.get(FIRST_ID, MONDAY); // the second week is now the least recently used
+        repository.put(SECOND_ID, MONDAY, maskWithRange(2, 3));
+
+        assertEquals(2, repository.getCachedCount());
+        assertEquals(Optional.of(maskWithRange(1, 2)), archive.get(FIRST_ID, MONDAY.plusWeeks(1)));
+        assertEquals(Optional.empty(), archive.get(FIRST_ID, MONDAY));
+    }
+
+    @Test
+    public void get_spilledWeek_loadedBack() {
+        repository.put(FIRST_ID, MONDAY, maskWithRange(10, 20));
+        repository.put(SECOND_ID, MONDAY, maskWithRange(0, 1));
+        repository.put(SECOND_ID, MONDAY.plusWeeks(1), maskWithRange(0, 1));
+
+        assertEquals(Optional.of(maskWithRange(10, 20)), repository.get(FIRST_ID, MONDAY));
+        assertEquals(2, repository.getCachedCount());
+    }
+
+    @Test
+    public void get_changeReturnedMask_storedMaskUnchanged() {
+        AvailabilityMask stored = maskWithRange(0, 1);
+        repository.put(FIRST_ID, MONDAY, stored);
+        stored.setRange(5, 6, true);
+        repository.get(FIRST_ID, MONDAY).get().setRange(10, 20, true);
+        repository.forEachInWeek(MONDAY, (personId, mask) -> mask.clear());
+
+        assertEquals(Optional.of(maskWithRange(0, 1)), repository.get(FIRST_ID, MONDAY));
+    }
+
+    @Test
+    public void get_missingWeek_returnsEmptyWithoutCaching() {
+        assertEquals(Optional.empty(), repository.get(FIRST_ID, MONDAY));
+        assertEquals(0, repository.getCachedCount());
+    }
+
+    @Test
+    public void put_invalidWeek_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                repository.put(FIRST_ID, MONDAY.plusDays(2), maskWithRange(0, 1)));
+        assertThrows(IllegalArgumentException.class, () ->
+                repository.put(FIRST_ID, MONDAY, AvailabilityMask.empty(10)));
+    }
+
+    @Test
+    public void forEachInWeek_visitsCachedAndArchivedMasks() {
+        repository.put(FIRST_ID, MONDAY, maskWithRange(0, 1));
+        repository.put(SECOND_ID, MONDAY, maskWithRange(1, 2));
+        repository.put(SECOND_ID, MONDAY.plusWeeks(1), maskWithRange(2, 3)); // spills the first person
+
+        Map<PersonId, AvailabilityMask> visited = new HashMap<>();
+        repository.forEachInWeek(MONDAY, visited::put);
+        assertEquals(Map.of(FIRST_ID, maskWithRange(0, 1), SECOND_ID, maskWithRange(1, 2)), visited);
+        assertEquals(2, repository.getCachedCount());
+    }
+
+    @Test
+    public void removePerson_removesCachedAndArchivedWeeks() {
+        repository.put(FIRST_ID, MONDAY, maskWithRange(0, 1));
+        repository.put(FIRST_ID, MONDAY.plusWeeks(1), maskWithRange(0, 1));
+        repository.put(SECOND_ID, MONDAY, maskWithRange(0, 1));
+        repository.removePerson(FIRST_ID);
+
+        assertEquals(Optional.empty(), repository.get(FIRST_ID, MONDAY));
+        assertEquals(Optional.empty(), repository.get(FIRST_ID, MONDAY.plusWeeks(1)));
+        assertTrue(repository.get(SECOND_ID, MONDAY).isPresent());
+    }
+
+    @Test
+    public void flush_writesCachedMasksToArchive() {
+        repository.put(FIRST_ID, MONDAY, maskWithRange(5, 9));
+        assertSame(archive, repository.flush());
+        assertEquals(Optional.of(maskWithRange(5, 9)), archive.get(FIRST_ID, MONDAY));
+        assertEquals(1, repository.getCachedCount());
+    }
+
+    @Test
+    public void flush_changedAfterEarlierFlush_writesChange() {
+        repository.put(FIRST_ID, MONDAY, maskWithRange(5, 9));
+        repository.flush();
+        repository.put(FIRST_ID, MONDAY, maskWithRange(1, 2));
+        repository.flush();
+        assertEquals(Optional.of(maskWithRange(1, 2)), archive.get(FIRST_ID, MONDAY));
+    }
+
+    @Test
+    public void getPersonIds_cachedAndArchivedPersons() {
+        archive.put(FIRST_ID, MONDAY, maskWithRange(0, 1));
+        repository.put(SECOND_ID, MONDAY, maskWithRange(0, 1));
+        assertEquals(Set.of(FIRST_ID, SECOND_ID), repository.getPersonIds());
+    }
+
+    @Test
+    public void hasUnsavedChanges_trackedUntilMarkedSaved() {
+        assertFalse(repository.hasUnsavedChanges());
+        repository.put(FIRST_ID, MONDAY, maskWithRange(0, 1));
+        assertTrue(repository.hasUnsavedChanges());
+        repository.markSaved();
+
+        repository.get(FIRST_ID, MONDAY);
+        repository.removePerson(SECOND_ID);
+        assertFalse(repository.hasUnsavedChanges());
+
+        repository.removePerson(FIRST_ID);
+        assertTrue(repository.hasUnsavedChanges());
+    }
+}
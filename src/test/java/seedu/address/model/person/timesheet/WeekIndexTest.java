@@ -1,7 +1,9 @@
 package seedu.address.model.person.timesheet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -54,6 +56,19 @@ public class WeekIndexTest {
         assertThrows(IllegalArgumentException.class, () -> weekIndex.toIndex(afterWeek));
     }
 
+    @Test
+    public void toEndIndex_roundsUpAndAcceptsEndOfWeek() {
+        LocalDate monday = LocalDate.of(2025, 10, 13);
+        WeekIndex weekIndex = new WeekIndex(monday);
+
+        assertEquals(0, weekIndex.toEndIndex(monday.atStartOfDay()));
+        assertEquals(2, weekIndex.toEndIndex(monday.atTime(1, 0)));
+        assertEquals(3, weekIndex.toEndIndex(monday.atTime(1, 10)));
+        assertEquals(WeekIndex.BINS_PER_WEEK, weekIndex.toEndIndex(monday.plusDays(7).atStartOfDay()));
+        assertThrows(IllegalArgumentException.class, () -> weekIndex.toEndIndex(monday.minusDays(1).atStartOfDay()));
+        assertThrows(IllegalArgumentException.class, () -> weekIndex.toEndIndex(monday.plusDays(7).atTime(0, 1)));
+    }
+
     @Test
     public void toTime_returnsCorrectDateTime() {
         LocalDate monday = LocalDate.of(2025, 10, 13);
@@ -88,5 +103,14 @@ public class WeekIndexTest {
             assertEquals(i, idx);
         }
     }
-}
 
+    @Test
+    public void equals() {
+        WeekIndex week = new WeekIndex(LocalDate.of(2025, 10, 13));
+        assertTrue(week.equals(new WeekIndex(LocalDate.of(2025, 10, 19)))); // same week, different day
+        assertEquals(week.hashCode(), new WeekIndex(LocalDate.of(2025, 10, 15)).hashCode());
+        assertTrue(week.equals(week));
+        assertFalse(week.equals(null));
+        assertFalse(week.equals(new WeekIndex(LocalDate.of(2025, 10, 20))));
+    }
+}
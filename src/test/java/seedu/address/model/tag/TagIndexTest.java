@@ -0,0 +1,80 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.add(null));
+    }
+
+    @Test
+    public void getPersonsTagged_matchesSubstringIgnoringCase() {
+        tagIndex.setAll(Arrays.asList(ALICE, BENSON, CARL)); // friends; owesMoney, friends; no tags
+        assertEquals(Arrays.asList(ALICE, BENSON), tagIndex.getPersons(tagIndex.getPersonsTagged("FRIEND")));
+        assertEquals(Collections.singletonList(BENSON), tagIndex.getPersons(tagIndex.getPersonsTagged("money")));
+        assertTrue(tagIndex.getPersonsTagged("colleagues").isEmpty());
+    }
+
+    @Test
+    public void getAllPersons_includesUntaggedPersons() {
+        tagIndex.setAll(Arrays.asList(ALICE, CARL));
+        assertEquals(Arrays.asList(ALICE, CARL), tagIndex.getPersons(tagIndex.getAllPersons()));
+    }
+
+    @Test
+    public void getPersonsTagged_returnsCopy() {
+        tagIndex.add(ALICE);
+        tagIndex.getPersonsTagged("friends").clear();
+        tagIndex.getAllPersons().clear();
+        assertEquals(Collections.singletonList(ALICE), tagIndex.getPersons(tagIndex.getPersonsTagged("friends")));
+    }
+
+    @Test
+    public void remove_freesSlotForReuse() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(ALICE);
+        assertEquals(Collections.singletonList(BENSON), tagIndex.getPersons(tagIndex.getPersonsTagged("friends")));
+
+        tagIndex.add(CARL);
+        BitSet expectedSlots = new BitSet();
+        expectedSlots.set(0, 2);
+        assertEquals(expectedSlots, tagIndex.getAllPersons());
+        assertEquals(Collections.singletonList(BENSON), tagIndex.getPersons(tagIndex.getPersonsTagged("friends")));
+    }
+
+    @Test
+    public void remove_personNotIndexed_doesNothing() {
+        tagIndex.add(ALICE);
+        tagIndex.remove(BENSON);
+        assertEquals(Collections.singletonList(ALICE), tagIndex.getPersons(tagIndex.getAllPersons()));
+    }
+
+    @Test
+    public void replace_updatesTags() {
+        tagIndex.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("Sec3Math").build();
+        tagIndex.replace(ALICE, editedAlice);
+        assertTrue(tagIndex.getPersonsTagged("friends").isEmpty());
+        assertEquals(Collections.singletonList(editedAlice),
+                tagIndex.getPersons(tagIndex.getPersonsTagged("sec3")));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_duplicateTags_keepsOneOfEachInNameOrder() {
+        TagSet tags = TagSet.of(List.of(new Tag("zeta"), new Tag("alpha"), new Tag("zeta")));
+        assertEquals(2, tags.size());
+        assertEquals(List.of(new Tag("alpha"), new Tag("zeta")), new ArrayList<>(tags));
+    }
+
+    @Test
+    public void of_tags_usesPooledInstances() {
+        TagSet tags = TagSet.of(Set.of(new Tag("shared")));
+        assertSame(Tag.of("shared"), tags.iterator().next());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        TagSet tags = TagSet.of(Set.of(new Tag("a")));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Set.of(new Tag("friends"), new Tag("colleagues")));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(new Tag("family")));
+        assertFalse(tags.contains("friends"));
+        assertFalse(tags.contains(null));
+    }
+
+    @Test
+    public void equals_hashSetWithSameTags_isEqual() {
+        Set<Tag> hashSet = new HashSet<>(List.of(new Tag("friends"), new Tag("colleagues")));
+        TagSet tags = TagSet.of(hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertEquals(Set.of(), TagSet.of(Set.of()));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
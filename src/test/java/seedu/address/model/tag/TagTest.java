@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +25,22 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        Tag tag = Tag.of("pooled");
+        assertSame(tag, Tag.of("pooled"));
+        assertEquals(new Tag("pooled"), tag);
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void intern_equalTag_returnsPooledInstance() {
+        Tag pooled = Tag.of("interned");
+        assertSame(pooled, Tag.intern(new Tag("interned")));
+    }
+
 }
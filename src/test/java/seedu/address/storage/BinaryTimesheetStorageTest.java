@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+import seedu.address.model.person.timesheet.WeekIndex;
+
+public class BinaryTimesheetStorageTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTimesheets_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTimesheetStorage(testFolder.resolve("missing.bin")).readTimesheets().isPresent());
+    }
+
+    @Test
+    public void saveAndReadTimesheets_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("timesheets.bin");
+        BinaryTimesheetStorage storage = new BinaryTimesheetStorage(filePath);
+        AvailabilityMask mask = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        mask.setRange(20, 40, true);
+        TimesheetArchive original = new TimesheetArchive();
+        original.put(PersonId.of(1), MONDAY, mask);
+        original.put(PersonId.of(1), MONDAY.plusWeeks(1), mask);
+        original.put(PersonId.of(7), MONDAY, AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK));
+
+        storage.saveTimesheets(original);
+        TimesheetArchive read = storage.readTimesheets().get();
+        assertEquals(original.getPersonIds(), read.getPersonIds());
+        assertEquals(original.getWeeks(PersonId.of(1)), read.getWeeks(PersonId.of(1)));
+        assertEquals(Optional.of(mask), read.get(PersonId.of(1), MONDAY.plusWeeks(1)));
+        assertEquals(original.getWeeks(PersonId.of(7)), read.getWeeks(PersonId.of(7)));
+    }
+
+    @Test
+    public void readTimesheets_notTimesheetFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notTimesheets.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryTimesheetStorage(filePath).readTimesheets());
+    }
+
+    @Test
+    public void readTimesheets_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("timesheets.bin");
+        BinaryTimesheetStorage storage = new BinaryTimesheetStorage(filePath);
+        TimesheetArchive archive = new TimesheetArchive();
+        archive.put(PersonId.of(1), MONDAY, AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK));
+        storage.saveTimesheets(archive);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, storage::readTimesheets);
+    }
+
+    @Test
+    public void saveTimesheets_nullArchive_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryTimesheetStorage(testFolder.resolve("timesheets.bin")).saveTimesheets(null));
+    }
+}
@@ -1,16 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -35,4 +39,28 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedIdAfterPersonWithoutId_assignsFreshId() throws Exception {
+        // the saved id is the one that would be issued next, so it must be reserved before the first person
+        long savedId = PersonId.next().getValue() + 1;
+        JsonAdaptedPerson withoutId = new JsonAdaptedPerson(null, "Alice Pauline", "94351253", "alice@example.com",
+                "123, Jurong West Ave 6, #08-111", "2025-10-12 1600-1800", List.of());
+        JsonAdaptedPerson withId = new JsonAdaptedPerson(savedId, "Benson Meier", "98765432",
+                "johnd@example.com", "311, Clementi Ave 2, #02-25", "2025-10-13 1000-1100", List.of());
+        AddressBook addressBook = new JsonSerializableAddressBook(List.of(withoutId, withId)).toModelType();
+
+        List<Person> persons = addressBook.getPersonList();
+        assertEquals(2, persons.size());
+        assertEquals(PersonId.of(savedId), persons.get(1).getId());
+        assertTrue(persons.get(0).getId().getValue() > savedId);
+    }
 }
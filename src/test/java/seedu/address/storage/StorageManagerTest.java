@@ -1,10 +1,16 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +20,20 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.person.timesheet.AvailabilityMask;
+import seedu.address.model.person.timesheet.TimesheetArchive;
+import seedu.address.model.person.timesheet.WeekIndex;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
     @TempDir
     public Path testFolder;
 
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 13);
+
     private StorageManager storageManager;
 
     @BeforeEach
@@ -60,9 +74,94 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void timesheetsReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link BinaryTimesheetStorage} class.
+         * More extensive testing of timesheet saving/reading is done in {@link BinaryTimesheetStorageTest} class.
+         */
+        assertEquals(Optional.empty(), storageManager.readTimesheets());
+        TimesheetArchive original = new TimesheetArchive();
+        AvailabilityMask mask = AvailabilityMask.empty(WeekIndex.BINS_PER_WEEK);
+        mask.setRange(10, 20, true);
+        original.put(PersonId.of(1), MONDAY, mask);
+        storageManager.saveTimesheets(original);
+
+        TimesheetArchive retrieved = storageManager.readTimesheets().get();
+        assertEquals(Optional.of(mask), retrieved.get(PersonId.of(1), MONDAY));
+        assertEquals(testFolder.resolve(StorageManager.DEFAULT_TIMESHEET_FILE_NAME),
+                storageManager.getTimesheetFilePath());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void addSlot_noConflict_returnsTrue() {
+        assertTrue(storageManager.addSlot(new TimeSlot("2025-10-12 1000-1100")));
+        assertTrue(storageManager.addSlot(new TimeSlot("2025-10-12 1100-1200")));
+        assertTrue(storageManager.addSlot(new TimeSlot("2025-10-12 0900-1000")));
+    }
+
+    @Test
+    public void addSlot_overlapsNeighbour_returnsFalse() {
+        storageManager.addSlot(new TimeSlot("2025-10-12 1000-1100"));
+        storageManager.addSlot(new TimeSlot("2025-10-12 1300-1400"));
+
+        assertFalse(storageManager.addSlot(new TimeSlot("2025-10-12 1030-1200"))); // overlaps earlier slot
+        assertFalse(storageManager.addSlot(new TimeSlot("2025-10-12 1200-1330"))); // overlaps later slot
+        assertFalse(storageManager.addSlot(new TimeSlot("2025-10-12 1000-1030"))); // same start, shorter
+        assertFalse(storageManager.addSlot(new TimeSlot("2025-10-12 0900-1500"))); // covers both
+    }
+
+    @Test
+    public void removeSlot_freesSlot() {
+        TimeSlot slot = new TimeSlot("2025-10-12 1000-1100");
+        storageManager.addSlot(slot);
+        storageManager.removeSlot(slot);
+        assertTrue(storageManager.addSlot(slot));
+    }
+
+    @Test
+    public void slotsBetween_returnsSlotsInDateRangeInOrder() {
+        TimeSlot first = new TimeSlot("2025-10-12 0000-0100");
+        TimeSlot second = new TimeSlot("2025-10-13 2300-2359");
+        storageManager.addSlot(new TimeSlot("2025-10-14 0000-0001"));
+        storageManager.addSlot(second);
+        storageManager.addSlot(first);
+        storageManager.addSlot(new TimeSlot("2025-10-11 2300-2359"));
+
+        List<TimeSlot> expected = Arrays.asList(first, second);
+        assertEquals(expected, List.copyOf(storageManager.slotsBetween(
+                LocalDate.of(2025, 10, 12), LocalDate.of(2025, 10, 13))));
+        assertTrue(storageManager.slotsBetween(LocalDate.of(2025, 10, 13), LocalDate.of(2025, 10, 12)).isEmpty());
+    }
+
+    @Test
+    public void loadExistingSlots_replacesStoredSlots() {
+        TimeSlot stale = new TimeSlot("2099-01-01 1000-1100");
+        storageManager.addSlot(stale);
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.loadExistingSlots(addressBook);
+
+        assertTrue(storageManager.addSlot(stale));
+        TimeSlot firstTypicalSlot = addressBook.getPersonList().get(0).getTimeSlot();
+        assertFalse(storageManager.addSlot(firstTypicalSlot));
+    }
+
+    @Test
+    public void loadExistingSlots_overlappingSlots_keepsEarlierSlotOnly() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Early").withTimeSlot("2025-10-12 1000-1200").build());
+        addressBook.addPerson(new PersonBuilder().withName("Late").withTimeSlot("2025-10-12 1100-1300").build());
+        storageManager.loadExistingSlots(addressBook);
+
+        // 1200-1300 is free once the overlapping 1100-1300 slot is skipped
+        assertTrue(storageManager.addSlot(new TimeSlot("2025-10-12 1200-1300")));
+        assertFalse(storageManager.addSlot(new TimeSlot("2025-10-12 1130-1145")));
+    }
+
 }